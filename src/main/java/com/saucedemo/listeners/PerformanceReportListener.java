@@ -0,0 +1,101 @@
+package com.saucedemo.listeners;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import com.saucedemo.utilities.selenium.helperClasses.LocatorProfiler;
+import com.saucedemo.utilities.selenium.helperClasses.LocatorProfiler.LocatorStats;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the per-locator profile collected by LocatorProfiler when a suite finishes:
+ * a ranked, human-readable slow-selector report and the same data as JSON,
+ * both under 'performance.report.dir' (default test_outputs/performance).
+ */
+public class PerformanceReportListener implements ISuiteListener {
+
+    private static final Logger log = LogsUtils.getLogger(PerformanceReportListener.class);
+
+    private static final String REPORT_DIR_KEY = "performance.report.dir";
+    private static final String TEXT_REPORT_FILE = "slow-locators.txt";
+    private static final String JSON_REPORT_FILE = "locator-profile.json";
+    private static final int TOP_TESTS_PER_LOCATOR = 3;
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!LocatorProfiler.hasActivity()) {
+            return;
+        }
+        List<LocatorStats> ranked = LocatorProfiler.getRankedStats();
+        Path dir = Paths.get(PropertiesUtils.getProperty(REPORT_DIR_KEY, "test_outputs/performance"));
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve(TEXT_REPORT_FILE), buildTextReport(suite.getName(), ranked));
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(dir.resolve(JSON_REPORT_FILE).toFile(), buildJsonReport(suite.getName(), ranked));
+            log.info("Locator profile for suite '{}' written to {}", suite.getName(), dir.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Failed to write locator profile to {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static String buildTextReport(String suiteName, List<LocatorStats> ranked) {
+        StringBuilder report = new StringBuilder();
+        report.append("Slow locator report - suite '").append(suiteName).append("' - ").append(Instant.now())
+                .append(System.lineSeparator())
+                .append(String.format("%-4s %9s %6s %7s %7s %8s %8s  %-22s %s%n",
+                        "#", "total ms", "calls", "avg ms", "max ms", "timeouts", "trips", "page", "locator"));
+
+        int rank = 1;
+        for (LocatorStats stats : ranked) {
+            report.append(String.format("%-4d %9d %6d %7d %7d %8d %8d  %-22s %s%n",
+                    rank++, stats.getTotalMillis(), stats.getCalls(), stats.getAverageMillis(), stats.getMaxMillis(),
+                    stats.getTimeouts(), stats.getRoundTrips(), stats.getPage(), stats.getLocator()));
+            String topTests = stats.getTestMillis().entrySet().stream()
+                    .limit(TOP_TESTS_PER_LOCATOR)
+                    .map(e -> e.getKey() + " (" + e.getValue() + " ms)")
+                    .collect(Collectors.joining(", "));
+            report.append("       actions: ").append(stats.getActions())
+                    .append(" | top tests: ").append(topTests)
+                    .append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    private static Map<String, Object> buildJsonReport(String suiteName, List<LocatorStats> ranked) {
+        List<Map<String, Object>> locators = new ArrayList<>();
+        for (LocatorStats stats : ranked) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("locator", stats.getLocator());
+            entry.put("page", stats.getPage());
+            entry.put("calls", stats.getCalls());
+            entry.put("totalMillis", stats.getTotalMillis());
+            entry.put("averageMillis", stats.getAverageMillis());
+            entry.put("maxMillis", stats.getMaxMillis());
+            entry.put("timeouts", stats.getTimeouts());
+            entry.put("roundTrips", stats.getRoundTrips());
+            entry.put("actions", stats.getActions());
+            entry.put("tests", stats.getTestMillis());
+            locators.add(entry);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suiteName);
+        report.put("generatedAt", Instant.now().toString());
+        report.put("locators", locators);
+        return report;
+    }
+}
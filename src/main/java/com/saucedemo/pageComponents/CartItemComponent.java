@@ -1,6 +1,7 @@
 package com.saucedemo.pageComponents;
 
 import com.saucedemo.pages.BasePage;
+import com.saucedemo.utilities.selenium.driver.DriverManager;
 import com.saucedemo.utilities.selenium.helperClasses.ElementActions;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -15,8 +16,11 @@ public class CartItemComponent extends BasePage {
 
 
 
+    /**
+     * Static for convenience in tests; always reads the calling thread's driver.
+     */
     public static boolean isItemPresentByName(String itemName) {
-        List<WebElement> items = driver.findElements(CART_ITEM_CONTAINER);
+        List<WebElement> items = DriverManager.getDriver().findElements(CART_ITEM_CONTAINER);
         for (WebElement item : items) {
             String name = ElementActions.getText(item,ITEM_NAME).trim();
             if (name.equalsIgnoreCase(itemName)) {
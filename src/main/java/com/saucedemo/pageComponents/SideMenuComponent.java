@@ -4,6 +4,7 @@ import com.saucedemo.pages.BasePage;
 import com.saucedemo.utilities.config.PropertiesUtils;
 import com.saucedemo.utilities.selenium.helperClasses.BrowserUtils;
 import com.saucedemo.utilities.selenium.helperClasses.ElementActions;
+import com.saucedemo.utilities.selenium.helperClasses.ExternalLinks;
 import com.saucedemo.utilities.selenium.helperClasses.WaitHelpers;
 import org.openqa.selenium.By;
 
@@ -52,14 +53,15 @@ public class SideMenuComponent extends BasePage {
     }
 
     public String clickAboutAndGetTargetUrl() {
-        // Existing method that opens About
-        clickAbout();
-
-        String url = BrowserUtils.getCurrentUrl();
-        if (url == null) {
-            throw new IllegalStateException("Current URL is null after clicking About.");
-        }
-        return url;
+        openMenu();
+        return ExternalLinks.getTargetUrl(aboutLink, () -> {
+            ElementActions.click(aboutLink);
+            String url = BrowserUtils.getCurrentUrl();
+            if (url == null) {
+                throw new IllegalStateException("Current URL is null after clicking About.");
+            }
+            return url;
+        });
     }
 
     public String getExpectedAboutUrlPrefix() {
@@ -2,16 +2,24 @@ package com.saucedemo.pages;
 
 import com.saucedemo.utilities.config.PropertiesUtils;
 import com.saucedemo.utilities.selenium.driver.DriverManager;
+import com.saucedemo.utilities.selenium.helperClasses.AppReady;
 import com.saucedemo.utilities.selenium.helperClasses.ElementActions;
-import com.saucedemo.utilities.selenium.helperClasses.WaitHelpers;
+import com.saucedemo.utilities.selenium.helperClasses.ElementCache;
+import com.saucedemo.utilities.selenium.helperClasses.OptionalElements;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
-import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 
+/**
+ * Base class for all page objects and components.
+ * Each instance is bound to the WebDriver of the thread that created it,
+ * so page objects can be used safely when tests run in parallel.
+ */
 public abstract class BasePage {
 
-    protected static WebDriver driver;
+    protected final WebDriver driver;
+    // Element handles reused within this page instance (only when element.cache.enabled=true)
+    protected final ElementCache elementCache = new ElementCache();
     private final By errorMessage  = By.cssSelector("[data-test='error']");
 
 
@@ -30,12 +38,7 @@ public abstract class BasePage {
      * Returns true if an error banner is shown.
      */
     public boolean isErrorDisplayed() {
-        try {
-            WaitHelpers.waitForVisibility(errorMessage);
-            return true;
-        } catch (TimeoutException e) {
-            return false;
-        }
+        return OptionalElements.isDisplayed(errorMessage);
     }
 
     /**
@@ -50,11 +53,22 @@ public abstract class BasePage {
         }
     }
     public void refreshPage() {
-        DriverManager.getDriver().navigate().refresh();
+        driver.navigate().refresh();
+        AppReady.await();
+        onPageStateChanged();
     }
 
     public void navigateBack() {
-        DriverManager.getDriver().navigate().back();
+        driver.navigate().back();
+        onPageStateChanged();
+    }
+
+    /**
+     * Called after this page object navigated or reloaded; pages that cache element
+     * references drop them here (overrides must call super).
+     */
+    protected void onPageStateChanged() {
+        elementCache.clear();
     }
 
     protected String getBaseUrl() {
@@ -69,7 +83,9 @@ public abstract class BasePage {
      * Generic direct navigation to a relative path (e.g. cart.html, checkout-step-one.html).
      */
     public void openDirect(String relativePath) {
-        DriverManager.getDriver().get(getBaseUrl() + relativePath);
+        driver.get(getBaseUrl() + relativePath);
+        AppReady.await();
+        onPageStateChanged();
     }
 
 
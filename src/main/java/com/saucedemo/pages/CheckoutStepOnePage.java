@@ -2,9 +2,12 @@ package com.saucedemo.pages;
 
 import com.saucedemo.utilities.selenium.helperClasses.BrowserUtils;
 import com.saucedemo.utilities.selenium.helperClasses.ElementActions;
-import com.saucedemo.utilities.selenium.helperClasses.WaitHelpers;
+import com.saucedemo.utilities.selenium.helperClasses.FormFiller;
 import org.openqa.selenium.By;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Checkout Step One page (Your Information).
  * Handles entering user info and continuing / cancelling checkout.
@@ -28,23 +31,33 @@ public class CheckoutStepOnePage extends BasePage {
     }
 
     // ---------- Form interactions ----------
+    // type() already waits for visibility (or reuses a cached handle), so no separate wait here
 
     public void enterFirstName(String firstName) {
-        WaitHelpers.waitForVisibility(firstNameInput);
-        ElementActions.type(firstNameInput , firstName);
+        ElementActions.type(elementCache, firstNameInput, firstName);
     }
 
     public void enterLastName(String lastName) {
-        WaitHelpers.waitForVisibility(lastNameInput);
-        ElementActions.type(lastNameInput , lastName);
+        ElementActions.type(elementCache, lastNameInput, lastName);
     }
 
     public void enterPostalCode(String postalCode) {
-        WaitHelpers.waitForVisibility(postalCodeInput);
-        ElementActions.type(postalCodeInput , postalCode);
+        ElementActions.type(elementCache, postalCodeInput, postalCode);
     }
 
+    /**
+     * Fills the three fields: in one browser call with form.fill.mode=batch (see {@link FormFiller}),
+     * otherwise with keystrokes field by field.
+     */
     public void fillUserInformation(String firstName, String lastName, String postalCode) {
+        if (FormFiller.isBatchMode()) {
+            Map<By, String> fields = new LinkedHashMap<>();
+            fields.put(firstNameInput, firstName);
+            fields.put(lastNameInput, lastName);
+            fields.put(postalCodeInput, postalCode);
+            FormFiller.fill(fields);
+            return;
+        }
         enterFirstName(firstName);
         enterLastName(lastName);
         enterPostalCode(postalCode);
@@ -53,7 +66,7 @@ public class CheckoutStepOnePage extends BasePage {
     // ---------- Buttons ----------
 
     public void clickContinue() {
-        ElementActions.click(continueButton);
+        ElementActions.click(elementCache, continueButton);
     }
 
     public void clickCancel() {
@@ -62,15 +75,15 @@ public class CheckoutStepOnePage extends BasePage {
 
     // ---------- Read current field values (for “not persisted” checks) ----------
     public String getFirstNameValue() {
-        return ElementActions.getValue(firstNameInput);
+        return ElementActions.getValue(elementCache, firstNameInput);
     }
 
     public String getLastNameValue() {
-        return ElementActions.getValue(lastNameInput);
+        return ElementActions.getValue(elementCache, lastNameInput);
     }
 
     public String getPostalCodeValue() {
-        return ElementActions.getValue(postalCodeInput);
+        return ElementActions.getValue(elementCache, postalCodeInput);
     }
 
 
@@ -0,0 +1,38 @@
+package com.saucedemo.pages;
+
+import java.util.Map;
+
+/**
+ * One product card of the Inventory grid, as read by {@link InventoryPage#getInventorySnapshot()}.
+ *
+ * @param id          item id from the card's button data-test, e.g. "sauce-labs-backpack"
+ * @param price       price without the "$", or null if it could not be parsed
+ * @param buttonText  "Add to cart" or "Remove"
+ * @param inCart      true when the card shows the remove button
+ */
+public record InventoryItem(String id, String name, Double price, String description,
+                            String imageSrc, String buttonText, boolean inCart) {
+
+    static InventoryItem fromScriptResult(Map<?, ?> values) {
+        return new InventoryItem(
+                text(values.get("id")),
+                text(values.get("name")),
+                parsePrice(text(values.get("price"))),
+                text(values.get("description")),
+                text(values.get("imageSrc")),
+                text(values.get("buttonText")),
+                Boolean.TRUE.equals(values.get("inCart")));
+    }
+
+    private static String text(Object value) {
+        return value == null ? "" : value.toString().trim();
+    }
+
+    private static Double parsePrice(String priceText) {
+        try {
+            return Double.parseDouble(priceText.replace("$", "").trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
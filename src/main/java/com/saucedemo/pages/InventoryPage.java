@@ -2,35 +2,72 @@ package com.saucedemo.pages;
 
 import com.saucedemo.utilities.config.PropertiesUtils;
 import com.saucedemo.utilities.selenium.driver.DriverManager;
+import com.saucedemo.utilities.selenium.helperClasses.AtomicActions;
+import com.saucedemo.utilities.selenium.helperClasses.AtomicActions.ActionResult;
 import com.saucedemo.utilities.selenium.helperClasses.BrowserUtils;
 import com.saucedemo.utilities.selenium.helperClasses.ElementActions;
+import com.saucedemo.utilities.selenium.helperClasses.ExternalLinks;
+import com.saucedemo.utilities.selenium.helperClasses.OptionalElements;
 import com.saucedemo.utilities.selenium.helperClasses.WaitHelpers;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 public class InventoryPage extends BasePage {
 
     // Locators for listing
     private final By inventoryItemContainer = By.className("inventory_item");
-    private final By inventoryItemImgContainer = By.className("inventory_item_img");
-    private final By itemNameLocator = By.className("inventory_item_name");
-    private final By itemPriceLocator = By.className("inventory_item_price");
     private final By cartBadge = By.className("shopping_cart_badge");
     private final By cartLink = By.className("shopping_cart_link");
 
     // ✅ Correct locator for sort dropdown (class = product_sort_container)
     private final By sortDropdown = By.className("product_sort_container");
 
+    // Name/id -> element index of the rendered grid (see getItemIndex)
+    private ItemIndex itemIndex;
+
     // Social icons
     private final By twitterIcon = By.cssSelector("li.social_twitter a");
     private final By facebookIcon = By.cssSelector("li.social_facebook a");
     private final By linkedinIcon = By.cssSelector("li.social_linkedin a");
 
+    /**
+     * Reads every product card (id, name, price, description, image, button state, plus the
+     * name and image elements for the item index) in a single script call instead of one
+     * getText round trip per element.
+     */
+    private static final String INVENTORY_SNAPSHOT_SCRIPT =
+            "return Array.from(document.querySelectorAll('.inventory_item')).map(function (item) {" +
+            "  function text(selector) {" +
+            "    var el = item.querySelector(selector);" +
+            "    return el ? el.innerText.trim() : '';" +
+            "  }" +
+            "  var button = item.querySelector('button');" +
+            "  var dataTest = button ? (button.getAttribute('data-test') || '') : '';" +
+            "  var image = item.querySelector('img.inventory_item_img, .inventory_item_img img');" +
+            "  return {" +
+            "    id: dataTest.replace(/^(add-to-cart|remove)-/, '')," +
+            "    name: text('.inventory_item_name')," +
+            "    price: text('.inventory_item_price')," +
+            "    description: text('.inventory_item_desc')," +
+            "    imageSrc: image ? image.getAttribute('src') : ''," +
+            "    buttonText: button ? button.innerText.trim() : ''," +
+            "    inCart: dataTest.indexOf('remove-') === 0," +
+            "    nameLink: item.querySelector('.inventory_item_name')," +
+            "    image: item.querySelector('.inventory_item_img')" +
+            "  };" +
+            "});";
+
     // ---------- Private helpers for dynamic locators (by itemId) ----------
 
     /**
@@ -51,55 +88,121 @@ public class InventoryPage extends BasePage {
 
     // ---------- Actions on inventory items ----------
 
-    public void addItemToCartById(String itemId) {
-        ElementActions.click(addToCartButtonByItemId(itemId));
+    /**
+     * Clicks the add button and reads the cart badge right after it (see {@link AtomicActions}, action.mode).
+     * The result's state is the badge text, or null if the badge was not rendered yet.
+     */
+    public ActionResult addItemToCartById(String itemId) {
+        return AtomicActions.clickAndRead(addToCartButtonByItemId(itemId), cartBadge).orThrow();
     }
 
-    public void removeItemFromCartById(String itemId) {
-        ElementActions.click(removeButtonByItemId(itemId));
+    /**
+     * Clicks the remove button and reads the cart badge right after it; the state is null for an empty cart.
+     */
+    public ActionResult removeItemFromCartById(String itemId) {
+        return AtomicActions.clickAndRead(removeButtonByItemId(itemId), cartBadge).orThrow();
     }
 
     /**
      * Open product details by clicking the *name* of the item.
      */
     public void openItemDetailsByName(String itemName) {
-        // Ensure items are visible
-        WaitHelpers.waitForVisibility(inventoryItemContainer);
+        clickIndexedItem(itemName, IndexedItem::nameLink);
+    }
 
-        List<WebElement> items = driver.findElements(inventoryItemContainer);
-        for (WebElement item : items) {
+    /**
+     * Open product details by clicking the *image* of the item.
+     */
+    public void openItemDetailsByImage(String itemName) {
+        clickIndexedItem(itemName, IndexedItem::image);
+    }
 
-            String actualName = ElementActions.getText(item,itemNameLocator);
-            if (actualName.equals(itemName)) {
-                ElementActions.click(item,itemNameLocator);
+    /**
+     * Open product details by clicking the name of the item with the given id, e.g. "sauce-labs-backpack".
+     */
+    public void openItemDetailsById(String itemId) {
+        for (int attempt = 1; ; attempt++) {
+            IndexedItem entry = getItemIndex().byId().get(itemId);
+            if (entry == null) {
+                throw new IllegalStateException("Item with id '" + itemId + "' not found on Inventory page.");
+            }
+            try {
+                entry.nameLink().click();
                 return;
+            } catch (StaleElementReferenceException e) {
+                if (attempt == 2) {
+                    throw e;
+                }
+                invalidateItemIndex();
             }
         }
-        throw new IllegalStateException("Item with name '" + itemName + "' not found on Inventory page.");
     }
 
+    // ---------- Item index ----------
+
     /**
-     * Open product details by clicking the *image* of the item.
+     * Name/id -> element index of the current grid, built with one script call on first use and
+     * dropped when the grid re-renders (sorting, refresh, navigation) or an element goes stale.
      */
-    public void openItemDetailsByImage(String itemName) {
-        WaitHelpers.waitForVisibility(inventoryItemContainer);
+    private ItemIndex getItemIndex() {
+        if (itemIndex == null) {
+            WaitHelpers.waitForVisibility(inventoryItemContainer);
+            Object result = ((JavascriptExecutor) driver).executeScript(INVENTORY_SNAPSHOT_SCRIPT);
+
+            Map<String, IndexedItem> byName = new HashMap<>();
+            Map<String, IndexedItem> byId = new HashMap<>();
+            if (result instanceof List<?> rows) {
+                for (Object row : rows) {
+                    Map<?, ?> values = (Map<?, ?>) row;
+                    IndexedItem entry = new IndexedItem(InventoryItem.fromScriptResult(values),
+                            (WebElement) values.get("nameLink"), (WebElement) values.get("image"));
+                    byName.putIfAbsent(entry.item().name().trim(), entry);
+                    byId.putIfAbsent(entry.item().id(), entry);
+                }
+            }
+            itemIndex = new ItemIndex(Map.copyOf(byName), Map.copyOf(byId));
+        }
+        return itemIndex;
+    }
 
-        List<WebElement> items = driver.findElements(inventoryItemContainer);
-        for (WebElement item : items) {
+    private void invalidateItemIndex() {
+        itemIndex = null;
+    }
 
-            String actualName = ElementActions.getText(item,itemNameLocator);
-            if (actualName.equals(itemName)) {
-                ElementActions.click(item,inventoryItemImgContainer);
+    @Override
+    protected void onPageStateChanged() {
+        super.onPageStateChanged();
+        invalidateItemIndex();
+    }
+
+    private void clickIndexedItem(String itemName, Function<IndexedItem, WebElement> target) {
+        for (int attempt = 1; ; attempt++) {
+            IndexedItem entry = getItemIndex().byName().get(itemName.trim());
+            if (entry == null) {
+                throw new IllegalStateException("Item with name '" + itemName + "' not found on Inventory page.");
+            }
+            try {
+                target.apply(entry).click();
                 return;
+            } catch (StaleElementReferenceException e) {
+                // Grid re-rendered since the index was built: rebuild once and retry
+                if (attempt == 2) {
+                    throw e;
+                }
+                invalidateItemIndex();
             }
         }
-        throw new IllegalStateException("Item with name '" + itemName + "' not found on Inventory page.");
     }
 
+    private record IndexedItem(InventoryItem item, WebElement nameLink, WebElement image) {}
+
+    private record ItemIndex(Map<String, IndexedItem> byName, Map<String, IndexedItem> byId) {}
+
     // ---------- Cart badge & navigation ----------
 
     public int getCartBadgeCount() {
-        if (!ElementActions.isDisplayed(cartBadge)) {
+        // The badge is absent for an empty cart, so don't wait the full explicit timeout for it
+        if (!OptionalElements.isDisplayed(cartBadge)) {
             return 0;
         }
         String text = ElementActions.getText(cartBadge);
@@ -128,48 +231,54 @@ public class InventoryPage extends BasePage {
 
     public void sortByNameAToZ() {
         getSortSelect().selectByValue("az");
+        invalidateItemIndex();
     }
 
     public void sortByNameZToA() {
         getSortSelect().selectByValue("za");
+        invalidateItemIndex();
     }
 
     public void sortByPriceLowToHigh() {
         getSortSelect().selectByValue("lohi");
+        invalidateItemIndex();
     }
 
     public void sortByPriceHighToLow() {
         getSortSelect().selectByValue("hilo");
+        invalidateItemIndex();
     }
 
     // ---------- Reading list of items ----------
 
-    public List<String> getAllItemNames() {
+    /**
+     * Immutable snapshot of the Inventory grid in display order, read in one round trip.
+     */
+    public List<InventoryItem> getInventorySnapshot() {
         // Make sure list is present before reading
         WaitHelpers.waitForVisibility(inventoryItemContainer);
 
-        List<WebElement> itemElements = driver.findElements(itemNameLocator);
-        List<String> names = new ArrayList<>();
-        for (WebElement el : itemElements) {
-            names.add(ElementActions.getText(el).trim());
+        Object result = ((JavascriptExecutor) driver).executeScript(INVENTORY_SNAPSHOT_SCRIPT);
+        List<InventoryItem> items = new ArrayList<>();
+        if (result instanceof List<?> rows) {
+            for (Object row : rows) {
+                items.add(InventoryItem.fromScriptResult((Map<?, ?>) row));
+            }
         }
-        return names;
+        return List.copyOf(items);
     }
 
-    public List<Double> getAllItemPrices() {
-        // Make sure list is present before reading
-        WaitHelpers.waitForVisibility(inventoryItemContainer);
+    public List<String> getAllItemNames() {
+        return getInventorySnapshot().stream()
+                .map(InventoryItem::name)
+                .toList();
+    }
 
-        List<WebElement> priceElements = driver.findElements(itemPriceLocator);
-        List<Double> prices = new ArrayList<>();
-        for (WebElement el : priceElements) {
-            String txt = ElementActions.getText(el).replace("$", "").trim();
-            try {
-                prices.add(Double.parseDouble(txt));
-            } catch (NumberFormatException e) {
-            }
-        }
-        return prices;
+    public List<Double> getAllItemPrices() {
+        return getInventorySnapshot().stream()
+                .map(InventoryItem::price)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     // ---------- Social icons ----------
@@ -187,23 +296,8 @@ public class InventoryPage extends BasePage {
     }
 
     public Double getItemPriceByNameOnInventory(String itemName) {
-        WaitHelpers.waitForVisibility(inventoryItemContainer);
-        List<WebElement> items = driver.findElements(inventoryItemContainer);
-
-        for (WebElement item : items) {
-
-            String actualName = ElementActions.getText(item,itemNameLocator).trim();
-            if (actualName.equalsIgnoreCase(itemName)) {
-                String priceText = ElementActions.getText(item,itemPriceLocator)
-                        .replace("$", "").trim();
-                try {
-                    return Double.parseDouble(priceText);
-                } catch (NumberFormatException e) {
-                    return null;
-                }
-            }
-        }
-        return null;
+        IndexedItem entry = getItemIndex().byName().get(itemName.trim());
+        return entry == null ? null : entry.item().price();
     }
 
     public boolean isOnInventoryPage() {
@@ -212,18 +306,7 @@ public class InventoryPage extends BasePage {
     }
 
     public String openTwitterAndGetTargetUrl() {
-        WebDriver driver = DriverManager.getDriver();
-        String originalHandle = driver.getWindowHandle();
-
-        clickTwitterIcon();
-
-        switchToNewWindow(driver, originalHandle);
-        String actualUrl = BrowserUtils.getCurrentUrl();
-
-        driver.close();
-        driver.switchTo().window(originalHandle);
-
-        return actualUrl;
+        return ExternalLinks.getTargetUrl(twitterIcon, () -> openInNewWindowAndGetUrl(this::clickTwitterIcon));
     }
 
     public String getExpectedTwitterUrlPrefix() {
@@ -237,18 +320,7 @@ public class InventoryPage extends BasePage {
     // ---------- Social links helpers (Facebook) ----------
 
     public String openFacebookAndGetTargetUrl() {
-        WebDriver driver = DriverManager.getDriver();
-        String originalHandle = driver.getWindowHandle();
-
-        clickFacebookIcon();
-
-        switchToNewWindow(driver, originalHandle);
-        String actualUrl = BrowserUtils.getCurrentUrl();
-
-        driver.close();
-        driver.switchTo().window(originalHandle);
-
-        return actualUrl;
+        return ExternalLinks.getTargetUrl(facebookIcon, () -> openInNewWindowAndGetUrl(this::clickFacebookIcon));
     }
 
     public String getExpectedFacebookUrlPrefix() {
@@ -262,11 +334,27 @@ public class InventoryPage extends BasePage {
     // ---------- Social links helpers (LinkedIn) ----------
 
     public String openLinkedInAndGetTargetUrl() {
-        WebDriver driver = DriverManager.getDriver();
+        return ExternalLinks.getTargetUrl(linkedinIcon, () -> openInNewWindowAndGetUrl(this::clickLinkedInIcon));
+    }
 
+    public String getExpectedLinkedInUrlPrefix() {
+        String expected = PropertiesUtils.getProperty("linkedin.url");
+        if (expected == null || expected.isBlank()) {
+            throw new IllegalStateException("linkedin.url property must be set in testConfig.properties");
+        }
+        return expected;
+    }
+
+    // ---------- Shared window-switch helper ----------
+
+    /**
+     * Real navigation (social.link.mode=open): click, read the URL in the new window, close it.
+     */
+    private String openInNewWindowAndGetUrl(Runnable clickIcon) {
+        WebDriver driver = DriverManager.getDriver();
         String originalHandle = driver.getWindowHandle();
 
-        clickLinkedInIcon();
+        clickIcon.run();
 
         switchToNewWindow(driver, originalHandle);
         String actualUrl = BrowserUtils.getCurrentUrl();
@@ -277,16 +365,6 @@ public class InventoryPage extends BasePage {
         return actualUrl;
     }
 
-    public String getExpectedLinkedInUrlPrefix() {
-        String expected = PropertiesUtils.getProperty("linkedin.url");
-        if (expected == null || expected.isBlank()) {
-            throw new IllegalStateException("linkedin.url property must be set in testConfig.properties");
-        }
-        return expected;
-    }
-
-    // ---------- Shared window-switch helper ----------
-
     private void switchToNewWindow(WebDriver driver, String originalHandle) {
         for (String handle : driver.getWindowHandles()) {
             if (!handle.equals(originalHandle)) {
@@ -4,10 +4,14 @@ import com.saucedemo.utilities.config.PropertiesUtils;
 import com.saucedemo.utilities.selenium.driver.DriverManager;
 import com.saucedemo.utilities.selenium.helperClasses.BrowserUtils;
 import com.saucedemo.utilities.selenium.helperClasses.ElementActions;
+import com.saucedemo.utilities.selenium.helperClasses.FormFiller;
 import com.saucedemo.utilities.selenium.helperClasses.WaitHelpers;
 import org.openqa.selenium.By;
 import org.openqa.selenium.TimeoutException;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Page Object for the SauceDemo login page.
  */
@@ -25,27 +29,35 @@ public class LoginPage extends BasePage {
     }
 
     public LoginPage enterUsername(String username) {
-        ElementActions.type(usernameInput, username);
+        ElementActions.type(elementCache, usernameInput, username);
         return this;
     }
 
     public LoginPage enterPassword(String password) {
-        ElementActions.type(passwordInput, password);
+        ElementActions.type(elementCache, passwordInput, password);
         return this;
     }
 
     public LoginPage clickLogin() {
-        ElementActions.click(loginButton);
+        ElementActions.click(elementCache, loginButton);
         return this;
     }
 
     /**
      * Convenience method used by tests:
      * type username + password + click login.
+     * With form.fill.mode=batch both fields are set in one browser call (see {@link FormFiller}).
      */
     public void loginAs(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
+        if (FormFiller.isBatchMode()) {
+            Map<By, String> fields = new LinkedHashMap<>();
+            fields.put(usernameInput, username);
+            fields.put(passwordInput, password);
+            FormFiller.fill(fields);
+        } else {
+            enterUsername(username);
+            enterPassword(password);
+        }
         clickLogin();
     }
 
@@ -23,14 +23,46 @@ public class PropertiesUtils {
 
     private PropertiesUtils() {}
 
+    /**
+     * Returns the value for the given key. A JVM system property with the same name
+     * (e.g. -Dlaunch.profile=fast-headless) takes precedence over testConfig.properties.
+     */
     public static String getProperty(String key) {
+        String override = System.getProperty(key);
+        if (override != null && !override.isBlank()) {
+            return override;
+        }
         return PROPERTIES.getProperty(key);
     }
 
     public static String getProperty(String key, String defaultValue) {
-        String value = PROPERTIES.getProperty(key);
+        String value = getProperty(key);
         return (value == null || value.isBlank()) ? defaultValue : value;
     }
-}
 
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(
+                    "Property '" + key + "' must be a valid number. Current value: " + value, e);
+        }
+    }
 
+    public static long getLongProperty(String key, long defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(
+                    "Property '" + key + "' must be a valid number. Current value: " + value, e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.saucedemo.utilities.reporting;
 
 import com.saucedemo.utilities.config.PropertiesUtils;
 import com.saucedemo.utilities.selenium.driver.DriverManager;
+import com.saucedemo.utilities.selenium.driver.LaunchProfile;
 import io.qameta.allure.Attachment;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -52,7 +53,8 @@ public class AllureUtils {
             File envFile = new File(resultsPath.toFile(), "environment.properties");
             try (FileWriter writer = new FileWriter(envFile)) {
 
-                writer.write("Browser=edge\n");
+                writer.write("Browser=" + PropertiesUtils.getProperty("browser") + "\n");
+                writer.write("Launch Profile=" + LaunchProfile.current().getKey() + "\n");
                 writer.write("Base URL=" + PropertiesUtils.getProperty("base.url") + "\n");
                 writer.write("OS=" + System.getProperty("os.name") + "\n");
                 writer.write("Java Version=" + System.getProperty("java.version") + "\n");
@@ -0,0 +1,47 @@
+package com.saucedemo.utilities.selenium.driver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Reads the resident memory (RSS) of the browser and driver processes started by this JVM.
+ * Uses /proc, so it only reports on Linux; elsewhere (or for remote browsers) it returns -1.
+ */
+public class BrowserMemorySampler {
+
+    private static final Path PROC = Paths.get("/proc");
+
+    private BrowserMemorySampler() {}
+
+    public static boolean isSupported() {
+        return Files.isDirectory(PROC.resolve("self"));
+    }
+
+    /**
+     * Total RSS in KB of every descendant process of this JVM, or -1 if it cannot be measured.
+     */
+    public static long descendantRssKb() {
+        if (!isSupported()) {
+            return -1;
+        }
+        return ProcessHandle.current().descendants()
+                .mapToLong(process -> rssKb(process.pid()))
+                .filter(rss -> rss > 0)
+                .sum();
+    }
+
+    private static long rssKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(PROC.resolve(String.valueOf(pid)).resolve("status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process exited between listing and reading; ignore it
+        }
+        return 0;
+    }
+}
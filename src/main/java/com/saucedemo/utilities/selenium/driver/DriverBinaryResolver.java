@@ -0,0 +1,253 @@
+package com.saucedemo.utilities.selenium.driver;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the driver binary (chromedriver, msedgedriver, geckodriver) once per JVM
+ * and remembers the result in an on-disk manifest, so later runs skip browser-version
+ * detection and network lookups entirely while the manifest entry is fresh.
+ * With 'driver.resolver.offline=true' the network is never used: the binary must come
+ * from the manifest, the matching webdriver.*.driver system property, or the PATH.
+ * A manifest entry whose driver fails to start a session (typically after the browser auto-updated)
+ * is dropped through {@link #invalidate}, and the caller resolves again.
+ */
+public class DriverBinaryResolver {
+
+    private static final Logger log = LogsUtils.getLogger(DriverBinaryResolver.class);
+
+    private static final String CACHE_DIR_KEY = "driver.cache.dir";
+    private static final String OFFLINE_KEY = "driver.resolver.offline";
+    private static final String MANIFEST_MAX_AGE_HOURS_KEY = "driver.manifest.max.age.hours";
+    private static final String MANIFEST_FILE_NAME = "driver-manifest.properties";
+    private static final String MANIFEST_SOURCE = "manifest";
+
+    private static final Map<String, ResolvedDriver> RESOLVED = new ConcurrentHashMap<>();
+
+    private DriverBinaryResolver() {}
+
+    /**
+     * Makes sure the driver binary for the given browser is available and exported through the
+     * webdriver.*.driver system property. Only the first call per browser does any work.
+     */
+    public static ResolvedDriver resolve(String browserName) {
+        DriverBinary binary = DriverBinary.forBrowser(browserName);
+        ResolvedDriver resolved = RESOLVED.computeIfAbsent(binary.browser, key -> resolveOnce(binary));
+        System.setProperty(binary.systemProperty, resolved.path());
+        return resolved;
+    }
+
+    /**
+     * Forgets the driver {@code failed} after a session could not be started with it. A driver that came
+     * from the manifest is removed from it (and from this JVM) so the next {@link #resolve} looks it up again.
+     * Returns true if resolving again may give a different driver: the entry was dropped, or another thread
+     * already replaced it.
+     */
+    static synchronized boolean invalidate(String browserName, ResolvedDriver failed) {
+        DriverBinary binary = DriverBinary.forBrowser(browserName);
+        ResolvedDriver current = RESOLVED.get(binary.browser);
+        if (current != null && !current.equals(failed)) {
+            return true;
+        }
+        if (failed == null || !MANIFEST_SOURCE.equals(failed.source())) {
+            return false;
+        }
+        log.warn("Cached {} driver {} ({}) could not start a session; dropping its manifest entry and resolving again.",
+                binary.browser, failed.version(), failed.path());
+        RESOLVED.remove(binary.browser);
+        // resolve() exported the stale path; don't pick it up again as a user-provided binary
+        System.clearProperty(binary.systemProperty);
+        Properties manifest = readManifest();
+        manifest.remove(binary.browser + ".path");
+        manifest.remove(binary.browser + ".version");
+        manifest.remove(binary.browser + ".resolvedAt");
+        storeManifest(manifest);
+        return true;
+    }
+
+    public static boolean isOffline() {
+        return Boolean.parseBoolean(PropertiesUtils.getProperty(OFFLINE_KEY, "false").trim());
+    }
+
+    // ---------- Resolution ----------
+
+    private static ResolvedDriver resolveOnce(DriverBinary binary) {
+        long start = System.nanoTime();
+        boolean offline = isOffline();
+
+        ResolvedDriver resolved = fromManifest(binary, offline);
+        if (resolved == null) {
+            resolved = fromSystemProperty(binary);
+        }
+        if (resolved == null && offline) {
+            resolved = fromPath(binary);
+        }
+        if (resolved == null) {
+            if (offline) {
+                throw new IllegalStateException(
+                        "Offline driver resolution failed for " + binary.browser + ": no entry in " + manifestFile() +
+                                ", no '" + binary.systemProperty + "' system property and no '" + binary.executable +
+                                "' on the PATH. Run once online or set '" + OFFLINE_KEY + "=false'.");
+            }
+            resolved = fromWebDriverManager(binary);
+            writeManifestEntry(binary, resolved);
+        }
+
+        log.info("Resolved {} driver {} ({}) from {} in {} ms",
+                binary.browser, resolved.version(), resolved.path(), resolved.source(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return resolved;
+    }
+
+    private static ResolvedDriver fromManifest(DriverBinary binary, boolean ignoreAge) {
+        Properties manifest = readManifest();
+        String path = manifest.getProperty(binary.browser + ".path");
+        if (path == null || !Files.isExecutable(Paths.get(path))) {
+            return null;
+        }
+        long resolvedAt;
+        try {
+            resolvedAt = Long.parseLong(manifest.getProperty(binary.browser + ".resolvedAt", "0").trim());
+        } catch (NumberFormatException e) {
+            // Damaged entry: treat as stale
+            resolvedAt = 0;
+        }
+        Duration age = Duration.ofMillis(System.currentTimeMillis() - resolvedAt);
+        if (!ignoreAge && age.toHours() >= PropertiesUtils.getLongProperty(MANIFEST_MAX_AGE_HOURS_KEY, 24)) {
+            log.info("Manifest entry for {} is {} h old, re-resolving.", binary.browser, age.toHours());
+            return null;
+        }
+        return new ResolvedDriver(path, manifest.getProperty(binary.browser + ".version", "unknown"), MANIFEST_SOURCE);
+    }
+
+    private static ResolvedDriver fromSystemProperty(DriverBinary binary) {
+        String path = System.getProperty(binary.systemProperty);
+        if (path == null || path.isBlank() || !Files.isExecutable(Paths.get(path))) {
+            return null;
+        }
+        return new ResolvedDriver(path, "unknown", "system property " + binary.systemProperty);
+    }
+
+    private static ResolvedDriver fromPath(DriverBinary binary) {
+        String pathEnv = System.getenv("PATH");
+        if (pathEnv == null) {
+            return null;
+        }
+        boolean windows = System.getProperty("os.name", "").toLowerCase().contains("win");
+        String executable = windows ? binary.executable + ".exe" : binary.executable;
+        for (String dir : pathEnv.split(java.io.File.pathSeparator)) {
+            Path candidate = Paths.get(dir, executable);
+            if (Files.isExecutable(candidate)) {
+                return new ResolvedDriver(candidate.toString(), "unknown", "PATH");
+            }
+        }
+        return null;
+    }
+
+    private static ResolvedDriver fromWebDriverManager(DriverBinary binary) {
+        WebDriverManager manager = switch (binary) {
+            case CHROME -> WebDriverManager.chromedriver();
+            case EDGE -> WebDriverManager.edgedriver();
+            case FIREFOX -> WebDriverManager.firefoxdriver();
+        };
+        manager.cachePath(getCacheDir().resolve("binaries").toString()).setup();
+        return new ResolvedDriver(
+                manager.getDownloadedDriverPath(), manager.getDownloadedDriverVersion(), "WebDriverManager");
+    }
+
+    // ---------- Manifest ----------
+
+    private static Path getCacheDir() {
+        String defaultDir = Paths.get(System.getProperty("user.home"), ".cache", "saucedemo-drivers").toString();
+        return Paths.get(PropertiesUtils.getProperty(CACHE_DIR_KEY, defaultDir));
+    }
+
+    private static Path manifestFile() {
+        return getCacheDir().resolve(MANIFEST_FILE_NAME);
+    }
+
+    private static synchronized Properties readManifest() {
+        Properties manifest = new Properties();
+        Path file = manifestFile();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable driver manifest {}: {}", file, e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    private static synchronized void writeManifestEntry(DriverBinary binary, ResolvedDriver resolved) {
+        Properties manifest = readManifest();
+        manifest.setProperty(binary.browser + ".path", resolved.path());
+        manifest.setProperty(binary.browser + ".version", String.valueOf(resolved.version()));
+        manifest.setProperty(binary.browser + ".resolvedAt", String.valueOf(System.currentTimeMillis()));
+        storeManifest(manifest);
+    }
+
+    private static synchronized void storeManifest(Properties manifest) {
+        Path file = manifestFile();
+        try {
+            Files.createDirectories(file.getParent());
+            // Parallel JVMs share the manifest: write a temp file and move it into place
+            Path temp = Files.createTempFile(file.getParent(), MANIFEST_FILE_NAME, ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    manifest.store(out, "Resolved WebDriver binaries (written by DriverBinaryResolver)");
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write driver manifest {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * A driver binary ready to be used: where it is, which version, and where it came from.
+     */
+    public record ResolvedDriver(String path, String version, String source) {}
+
+    private enum DriverBinary {
+        CHROME("chrome", "chromedriver", "webdriver.chrome.driver"),
+        EDGE("edge", "msedgedriver", "webdriver.edge.driver"),
+        FIREFOX("firefox", "geckodriver", "webdriver.gecko.driver");
+
+        private final String browser;
+        private final String executable;
+        private final String systemProperty;
+
+        DriverBinary(String browser, String executable, String systemProperty) {
+            this.browser = browser;
+            this.executable = executable;
+            this.systemProperty = systemProperty;
+        }
+
+        private static DriverBinary forBrowser(String browserName) {
+            for (DriverBinary binary : values()) {
+                if (binary.browser.equalsIgnoreCase(browserName)) {
+                    return binary;
+                }
+            }
+            throw new IllegalArgumentException("No driver binary known for browser: " + browserName);
+        }
+    }
+}
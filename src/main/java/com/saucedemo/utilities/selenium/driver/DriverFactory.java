@@ -1,35 +1,90 @@
 package com.saucedemo.utilities.selenium.driver;
 
 import com.saucedemo.utilities.config.PropertiesUtils;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.saucedemo.utilities.selenium.network.NetworkFilters;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public class DriverFactory {
 
     private static final String WINDOW_MAXIMIZED_KEY = "maximize.window";
+    private static final String GRID_BROWSER_KEY = "grid.browser";
+    private static final String PAGE_LOAD_STRATEGY_KEY = "page.load.strategy";
+    private static final String PAGE_LOAD_TIMEOUT_KEY = "page.load.timeout.seconds";
+    private static final String IMPLICIT_WAIT_KEY = "implicit.wait.seconds";
 
     private DriverFactory() {}
 
     public static WebDriver createDriver(String browserName) {
+        return createDriver(browserName, false);
+    }
+
+    /**
+     * Same as {@link #createDriver(String)}, optionally requesting a WebDriver BiDi
+     * connection (webSocketUrl) for features such as user contexts.
+     */
+    static WebDriver createDriver(String browserName, boolean enableBiDi) {
         if (browserName == null || browserName.isBlank()) {
             throw new IllegalArgumentException("Browser name is null or empty. " +
                     "Check 'browser' property in testConfig.properties.");
         }
 
-        return switch (browserName.toLowerCase()) {
-            case "chrome" -> createChromeDriver();
-            case "firefox" -> createFirefoxDriver();
-            case "edge" -> createEdgeDriver();
+        LaunchProfile profile = LaunchProfile.current();
+        long start = System.nanoTime();
+
+        WebDriver driver = switch (browserName.toLowerCase()) {
+            case "chrome" -> createChromeDriver(profile, enableBiDi);
+            case "firefox" -> createFirefoxDriver(profile, enableBiDi);
+            case "edge" -> createEdgeDriver(profile, enableBiDi);
+            case "remote" -> createRemoteDriver(profile, enableBiDi);
             default -> throw new IllegalArgumentException(
                     "Unsupported browser: " + browserName +
                             ". Update DriverFactory or change 'browser' in testConfig.properties.");
         };
+
+        applyTimeouts(driver);
+        driver = NetworkFilters.install(driver);
+        DriverStartupMetrics.record(profile, browserName, System.nanoTime() - start);
+        return driver;
+    }
+
+    /**
+     * Applies 'page.load.timeout.seconds' and 'implicit.wait.seconds'.
+     * The implicit wait should stay 0: all synchronisation uses explicit waits, and an implicit wait
+     * would be added to every findElements() call, including the short checks for optional elements.
+     */
+    private static void applyTimeouts(WebDriver driver) {
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        timeouts.pageLoadTimeout(Duration.ofSeconds(PropertiesUtils.getLongProperty(PAGE_LOAD_TIMEOUT_KEY, 30)));
+        timeouts.implicitlyWait(Duration.ofSeconds(PropertiesUtils.getLongProperty(IMPLICIT_WAIT_KEY, 0)));
+    }
+
+    private static PageLoadStrategy pageLoadStrategy() {
+        String value = PropertiesUtils.getProperty(PAGE_LOAD_STRATEGY_KEY, "normal").trim().toLowerCase();
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unsupported page load strategy: " + value +
+                    ". Use normal, eager or none for '" + PAGE_LOAD_STRATEGY_KEY + "' in testConfig.properties.");
+        }
+        return strategy;
     }
 
     private static boolean shouldStartMaximized() {
@@ -38,9 +93,78 @@ public class DriverFactory {
     }
 
 
-    private static WebDriver createChromeDriver() {
-        WebDriverManager.chromedriver().setup();
+    private static WebDriver createChromeDriver(LaunchProfile profile, boolean enableBiDi) {
+        return startLocal("chrome", () -> new ChromeDriver(withBiDi(buildChromeOptions(profile), enableBiDi)));
+    }
+
+    private static WebDriver createFirefoxDriver(LaunchProfile profile, boolean enableBiDi) {
+        WebDriver driver = startLocal("firefox",
+                () -> new FirefoxDriver(withBiDi(buildFirefoxOptions(profile), enableBiDi)));
+        applyWindowSize(driver, profile);
+        return driver;
+    }
+
+    private static WebDriver createEdgeDriver(LaunchProfile profile, boolean enableBiDi) {
+        return startLocal("edge", () -> new EdgeDriver(withBiDi(buildEdgeOptions(profile), enableBiDi)));
+    }
+
+    /**
+     * Resolves the driver binary and starts the session. If a cached binary no longer matches the
+     * installed browser (session not created, e.g. after a browser auto-update), the cache entry is
+     * dropped and the session is started once more with a freshly resolved binary.
+     */
+    private static WebDriver startLocal(String browserName, Supplier<WebDriver> launch) {
+        DriverBinaryResolver.ResolvedDriver resolved = DriverBinaryResolver.resolve(browserName);
+        try {
+            return launch.get();
+        } catch (SessionNotCreatedException e) {
+            if (!DriverBinaryResolver.invalidate(browserName, resolved)) {
+                throw e;
+            }
+            DriverBinaryResolver.resolve(browserName);
+            return launch.get();
+        }
+    }
+
+    /**
+     * Opens a session on the Selenium Grid at 'grid.url' (or the embedded grid) for the
+     * browser named by 'grid.browser', using the same launch profile options as a local run.
+     */
+    private static WebDriver createRemoteDriver(LaunchProfile profile, boolean enableBiDi) {
+        String gridBrowser = PropertiesUtils.getProperty(GRID_BROWSER_KEY, "chrome").trim().toLowerCase();
+        Capabilities capabilities = switch (gridBrowser) {
+            case "chrome" -> withBiDi(buildChromeOptions(profile), enableBiDi);
+            case "firefox" -> withBiDi(buildFirefoxOptions(profile), enableBiDi);
+            case "edge" -> withBiDi(buildEdgeOptions(profile), enableBiDi);
+            default -> throw new IllegalArgumentException(
+                    "Unsupported grid browser: " + gridBrowser + ". Change '" + GRID_BROWSER_KEY + "' in testConfig.properties.");
+        };
+
+        GridSupport grid = GridSupport.getInstance();
+        long start = System.nanoTime();
+        WebDriver driver = enableBiDi
+                ? new Augmenter().augment(new RemoteWebDriver(grid.getGridUrl(), capabilities))
+                : new RemoteWebDriver(grid.getGridUrl(), capabilities);
+        grid.recordSessionCreated(System.nanoTime() - start);
+
+        if ("firefox".equals(gridBrowser)) {
+            applyWindowSize(driver, profile);
+        }
+        return driver;
+    }
+
+    // ---------- Browser options ----------
+
+    private static <T extends MutableCapabilities> T withBiDi(T options, boolean enableBiDi) {
+        if (enableBiDi) {
+            options.setCapability("webSocketUrl", true);
+        }
+        return options;
+    }
+
+    private static ChromeOptions buildChromeOptions(LaunchProfile profile) {
         ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(pageLoadStrategy());
 
         // Disable password manager & leak detection
         options.addArguments("--disable-features=PasswordLeakDetection,PasswordLeakDetectionEnabled");
@@ -48,37 +172,95 @@ public class DriverFactory {
         options.addArguments("--disable-popup-blocking");
 
         // Disable Chrome credential services
-        options.setExperimentalOption("prefs", new java.util.HashMap<String, Object>() {{
-            put("credentials_enable_service", false);
-            put("profile.password_manager_enabled", false);
-            put("password_manager_leak_detection_enabled", false);
-        }});
+        Map<String, Object> prefs = new HashMap<>();
+        prefs.put("credentials_enable_service", false);
+        prefs.put("profile.password_manager_enabled", false);
+        prefs.put("password_manager_leak_detection_enabled", false);
 
-        if (shouldStartMaximized()) {
-            options.addArguments("--start-maximized");
-        }
-
-        return new ChromeDriver(options);
+        applyChromiumProfile(options, prefs, profile);
+        options.setExperimentalOption("prefs", prefs);
+        return options;
     }
 
-
-    private static WebDriver createFirefoxDriver() {
-        WebDriverManager.firefoxdriver().setup();
+    private static FirefoxOptions buildFirefoxOptions(LaunchProfile profile) {
         FirefoxOptions options = new FirefoxOptions();
-        WebDriver driver = new FirefoxDriver(options);
-        if (shouldStartMaximized()) {
-            driver.manage().window().maximize();
+        options.setPageLoadStrategy(pageLoadStrategy());
+
+        if (profile.isHeadless()) {
+            options.addArguments("-headless");
         }
-        return driver;
+        if (profile.isDisableGpu()) {
+            options.addPreference("layers.acceleration.disabled", true);
+        }
+        if (profile.isDisableExtensions()) {
+            options.addPreference("extensions.update.enabled", false);
+            options.addPreference("extensions.enabledScopes", 0);
+        }
+        if (profile.isDisableBackgroundNetworking()) {
+            options.addPreference("app.update.auto", false);
+            options.addPreference("browser.safebrowsing.malware.enabled", false);
+            options.addPreference("browser.safebrowsing.phishing.enabled", false);
+            options.addPreference("datareporting.healthreport.uploadEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+            options.addPreference("network.prefetch-next", false);
+        }
+        if (profile.isDisableImages()) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        return options;
     }
 
-    private static WebDriver createEdgeDriver() {
-        WebDriverManager.edgedriver().setup();
+    private static EdgeOptions buildEdgeOptions(LaunchProfile profile) {
         EdgeOptions options = new EdgeOptions();
-        WebDriver driver = new EdgeDriver(options);
-        if (shouldStartMaximized()) {
+        options.setPageLoadStrategy(pageLoadStrategy());
+
+        Map<String, Object> prefs = new HashMap<>();
+        applyChromiumProfile(options, prefs, profile);
+        if (!prefs.isEmpty()) {
+            options.setExperimentalOption("prefs", prefs);
+        }
+        return options;
+    }
+
+    /**
+     * Shared Chrome/Edge switches for the selected launch profile.
+     */
+    private static void applyChromiumProfile(ChromiumOptions<?> options, Map<String, Object> prefs,
+                                             LaunchProfile profile) {
+        if (profile.isHeadless()) {
+            options.addArguments("--headless=new");
+        }
+        if (profile.isDisableGpu()) {
+            options.addArguments("--disable-gpu");
+        }
+        if (profile.isDisableExtensions()) {
+            options.addArguments("--disable-extensions");
+        }
+        if (profile.isDisableBackgroundNetworking()) {
+            options.addArguments("--disable-background-networking");
+            options.addArguments("--disable-component-update");
+            options.addArguments("--disable-default-apps");
+            options.addArguments("--disable-sync");
+        }
+        if (profile.isDisableImages()) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+            prefs.put("profile.managed_default_content_settings.images", 2);
+        }
+        if (profile.hasFixedViewport()) {
+            options.addArguments("--window-size=" + profile.getWindowWidth() + "," + profile.getWindowHeight());
+        } else if (shouldStartMaximized()) {
+            options.addArguments("--start-maximized");
+        }
+    }
+
+    /**
+     * Fixed-viewport profiles get an exact size; otherwise honor 'maximize.window'.
+     */
+    private static void applyWindowSize(WebDriver driver, LaunchProfile profile) {
+        if (profile.hasFixedViewport()) {
+            driver.manage().window().setSize(new Dimension(profile.getWindowWidth(), profile.getWindowHeight()));
+        } else if (shouldStartMaximized()) {
             driver.manage().window().maximize();
         }
-        return driver;
     }
 }
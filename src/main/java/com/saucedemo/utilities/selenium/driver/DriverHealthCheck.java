@@ -0,0 +1,152 @@
+package com.saucedemo.utilities.selenium.driver;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap liveness probe for WebDriver sessions.
+ * A probe is a single getWindowHandle() round trip bounded by 'driver.health.timeout.millis',
+ * so a crashed or hung browser is detected in about a second instead of through a chain
+ * of explicit-wait timeouts. Drivers that fail the probe are marked dead: getDriver() then
+ * fails fast, and the driver layer discards them instead of reusing them.
+ */
+public class DriverHealthCheck {
+
+    private static final Logger log = LogsUtils.getLogger(DriverHealthCheck.class);
+
+    private static final String HEALTH_TIMEOUT_MILLIS_KEY = "driver.health.timeout.millis";
+
+    private static final ExecutorService PROBES = Executors.newCachedThreadPool(daemonThreads());
+    private static final Set<WebDriver> DEAD_DRIVERS = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    // ---------- Metrics ----------
+    private static final AtomicLong probeCount = new AtomicLong();
+    private static final AtomicLong totalProbeNanos = new AtomicLong();
+    private static final AtomicLong crashCount = new AtomicLong();
+    private static final AtomicLong replacementCount = new AtomicLong();
+
+    private DriverHealthCheck() {}
+
+    /**
+     * Returns true if the session answers a trivial command within the health timeout.
+     * A driver that fails is marked dead and counted as a crash.
+     */
+    public static boolean isAlive(WebDriver webDriver) {
+        if (webDriver == null || isMarkedDead(webDriver)) {
+            return false;
+        }
+        long timeoutMillis = PropertiesUtils.getLongProperty(HEALTH_TIMEOUT_MILLIS_KEY, 2000);
+        long start = System.nanoTime();
+        Future<String> probe = PROBES.submit(webDriver::getWindowHandle);
+        try {
+            probe.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            probe.cancel(true);
+            String reason = e instanceof TimeoutException
+                    ? "no answer within " + timeoutMillis + " ms"
+                    : String.valueOf(e.getCause().getMessage()).lines().findFirst().orElse("");
+            log.warn("Driver failed health check ({}), marking it dead.", reason);
+            markDead(webDriver);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            probeCount.incrementAndGet();
+            totalProbeNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * True if the browser session still answers (window list within the health timeout), regardless
+     * of which window it is switched to. Does not mark anything dead; used for shared browsers.
+     */
+    static boolean isSessionAlive(WebDriver webDriver) {
+        long timeoutMillis = PropertiesUtils.getLongProperty(HEALTH_TIMEOUT_MILLIS_KEY, 2000);
+        Future<?> probe = PROBES.submit(webDriver::getWindowHandles);
+        try {
+            probe.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            probe.cancel(true);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public static boolean isMarkedDead(WebDriver webDriver) {
+        return DEAD_DRIVERS.contains(webDriver);
+    }
+
+    /**
+     * Forgets a dead mark without quitting the driver (a context view whose browser lives on).
+     */
+    static void clearMark(WebDriver webDriver) {
+        DEAD_DRIVERS.remove(webDriver);
+    }
+
+    /**
+     * Forgets a dead driver once it has been discarded, and quits whatever is left of it.
+     */
+    static void discard(WebDriver webDriver) {
+        DEAD_DRIVERS.remove(webDriver);
+        PROBES.submit(() -> {
+            try {
+                webDriver.quit();
+            } catch (RuntimeException e) {
+                log.debug("Quitting dead driver failed as expected: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Counts a dead driver being replaced by a fresh one.
+     */
+    static void recordReplacement() {
+        replacementCount.incrementAndGet();
+    }
+
+    public static boolean hasActivity() {
+        return probeCount.get() > 0;
+    }
+
+    public static String getMetricsSummary() {
+        long probes = probeCount.get();
+        return String.format("Driver health: probes=%d, avgProbe=%d ms, crashesDetected=%d, replaced=%d",
+                probes, probes == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalProbeNanos.get() / probes),
+                crashCount.get(), replacementCount.get());
+    }
+
+    private static void markDead(WebDriver webDriver) {
+        if (DEAD_DRIVERS.add(webDriver)) {
+            crashCount.incrementAndGet();
+        }
+    }
+
+    private static java.util.concurrent.ThreadFactory daemonThreads() {
+        AtomicInteger index = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "driver-health-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -13,18 +13,41 @@ public class DriverManager {
     }
 
     public static WebDriver getDriver() {
-        if (driver.get() == null) {
+        WebDriver webDriver = driver.get();
+        if (webDriver == null) {
             throw new IllegalStateException("WebDriver has not been initialized. " +
                     "Call DriverManagerFactory.initDriver() before using getDriver().");
         }
-        return driver.get();
+        if (DriverHealthCheck.isMarkedDead(webDriver)) {
+            throw new IllegalStateException("The browser session on this thread has crashed. " +
+                    "It will be replaced for the next test.");
+        }
+        return webDriver;
+    }
+
+    /**
+     * True if a driver was started on this thread (false e.g. when initDriver itself failed).
+     */
+    public static boolean hasDriver() {
+        return driver.get() != null;
+    }
+
+    /**
+     * Probes the current thread's driver (e.g. after a test failure). Returns false and marks
+     * the driver dead if the browser no longer answers, so later calls fail fast.
+     */
+    public static boolean isCurrentDriverHealthy() {
+        return DriverHealthCheck.isAlive(driver.get());
     }
 
     public static void quitDriver() {
         WebDriver webDriver = driver.get();
         if (webDriver != null) {
-            webDriver.quit();
-            driver.remove();
+            try {
+                DriverManagerFactory.releaseDriver(webDriver);
+            } finally {
+                driver.remove();
+            }
         }
     }
 }
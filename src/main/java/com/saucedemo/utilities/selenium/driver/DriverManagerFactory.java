@@ -6,17 +6,98 @@ import org.openqa.selenium.WebDriver;
 public class DriverManagerFactory {
 
     private static final String BROWSER_PROPERTY_KEY = "browser";
+    private static final String DRIVER_MODE_PROPERTY_KEY = "driver.mode";
 
     private DriverManagerFactory() {}
 
     public static void initDriver() {
+        String browserName = getBrowserName();
+
+        WebDriver webDriver = switch (getDriverMode()) {
+            case POOL -> DriverPool.getInstance(browserName).lease();
+            case PREFETCH -> DriverPrefetcher.getInstance(browserName).claim();
+            case CONTEXT -> UserContextIsolation.getInstance(browserName).acquire();
+            case NEW -> DriverFactory.createDriver(browserName);
+        };
+        DriverManager.setDriver(webDriver);
+    }
+
+    /**
+     * Gives a driver back according to the active mode:
+     * pooled drivers are returned to the pool, prefetched ones are quit in the background,
+     * user contexts are closed, others are quit right away.
+     */
+    static void releaseDriver(WebDriver webDriver) {
+        if (DriverHealthCheck.isMarkedDead(webDriver) && getDriverMode() != DriverMode.CONTEXT) {
+            discardDeadDriver(webDriver);
+            return;
+        }
+        switch (getDriverMode()) {
+            case POOL -> DriverPool.getInstance(getBrowserName()).release(webDriver);
+            case PREFETCH -> DriverPrefetcher.getInstance(getBrowserName()).retire(webDriver);
+            case CONTEXT -> UserContextIsolation.getInstance(getBrowserName()).release(webDriver);
+            case NEW -> webDriver.quit();
+        }
+    }
+
+    /**
+     * A crashed driver is never scrubbed or reused: the pool launches a replacement,
+     * in the other modes the next test gets a fresh driver anyway.
+     */
+    private static void discardDeadDriver(WebDriver webDriver) {
+        DriverPool pool = getDriverMode() == DriverMode.POOL ? DriverPool.getIfStarted() : null;
+        if (pool != null) {
+            pool.discard(webDriver);
+        } else {
+            DriverHealthCheck.discard(webDriver);
+        }
+    }
+
+    /**
+     * Stops any long-lived driver infrastructure (e.g. the pool) at the end of the run
+     * and returns a human-readable summary of its metrics, or an empty string if none was used.
+     */
+    public static String shutdown() {
+        StringBuilder summary = new StringBuilder();
+        if (!DriverStartupMetrics.isEmpty()) {
+            summary.append(DriverStartupMetrics.getSummary()).append(System.lineSeparator());
+        }
+        DriverPool pool = DriverPool.getIfStarted();
+        if (pool != null) {
+            summary.append(pool.getMetricsSummary()).append(System.lineSeparator());
+            pool.shutdown();
+        }
+        DriverPrefetcher prefetcher = DriverPrefetcher.getIfStarted();
+        if (prefetcher != null) {
+            summary.append(prefetcher.getMetricsSummary()).append(System.lineSeparator());
+            prefetcher.shutdown();
+        }
+        UserContextIsolation isolation = UserContextIsolation.getIfStarted();
+        if (isolation != null) {
+            summary.append(isolation.getMetricsSummary()).append(System.lineSeparator());
+            isolation.shutdown();
+        }
+        GridSupport grid = GridSupport.getIfStarted();
+        if (grid != null) {
+            summary.append(grid.getMetricsSummary()).append(System.lineSeparator());
+            grid.shutdown();
+        }
+        if (DriverHealthCheck.hasActivity()) {
+            summary.append(DriverHealthCheck.getMetricsSummary()).append(System.lineSeparator());
+        }
+        return summary.toString();
+    }
+
+    public static DriverMode getDriverMode() {
+        return DriverMode.fromKey(PropertiesUtils.getProperty(DRIVER_MODE_PROPERTY_KEY));
+    }
+
+    private static String getBrowserName() {
         String browserName = PropertiesUtils.getProperty(BROWSER_PROPERTY_KEY);
 
         if (browserName == null || browserName.isBlank()) {
             throw new IllegalStateException("Property '" + BROWSER_PROPERTY_KEY + "' is missing or empty in testConfig.properties.");
         }
-
-        WebDriver webDriver = DriverFactory.createDriver(browserName);
-        DriverManager.setDriver(webDriver);
+        return browserName;
     }
 }
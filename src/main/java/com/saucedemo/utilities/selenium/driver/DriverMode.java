@@ -0,0 +1,47 @@
+package com.saucedemo.utilities.selenium.driver;
+
+import java.util.Arrays;
+
+/**
+ * How DriverManagerFactory provides a WebDriver for each test.
+ * Selected with the 'driver.mode' property in testConfig.properties.
+ */
+public enum DriverMode {
+
+    /** Launch a fresh browser for every test and quit it afterwards. */
+    NEW("new"),
+
+    /** Lease a pre-warmed browser from DriverPool and scrub it on return. */
+    POOL("pool"),
+
+    /** Claim a browser launched in the background by DriverPrefetcher while the previous test ran. */
+    PREFETCH("prefetch"),
+
+    /** Share one BiDi-enabled browser and give every test its own user context (UserContextIsolation). */
+    CONTEXT("context");
+
+    private final String key;
+
+    DriverMode(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static DriverMode fromKey(String value) {
+        if (value == null || value.isBlank()) {
+            return NEW;
+        }
+        for (DriverMode mode : values()) {
+            if (mode.key.equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unsupported driver mode: " + value +
+                        ". Use one of " + Arrays.toString(Arrays.stream(values()).map(DriverMode::getKey).toArray()) +
+                        " for 'driver.mode' in testConfig.properties.");
+    }
+}
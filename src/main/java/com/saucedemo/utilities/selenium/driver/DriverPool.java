@@ -0,0 +1,403 @@
+package com.saucedemo.utilities.selenium.driver;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of pre-launched browsers used when driver.mode=pool.
+ * Each test leases one browser, and on return the browser is scrubbed
+ * (cookies, storage, extra windows) and handed to the next test.
+ * Browsers are retired after 'driver.pool.max.leases' leases or
+ * 'driver.pool.max.age.seconds', and a replacement is launched in the background.
+ * Idle browsers are health-checked before every lease; crashed ones are replaced.
+ */
+public class DriverPool {
+
+    private static final Logger log = LogsUtils.getLogger(DriverPool.class);
+
+    private static final String POOL_SIZE_KEY = "driver.pool.size";
+    private static final String MAX_LEASES_KEY = "driver.pool.max.leases";
+    private static final String MAX_AGE_SECONDS_KEY = "driver.pool.max.age.seconds";
+    private static final String LEASE_TIMEOUT_SECONDS_KEY = "driver.pool.lease.timeout.seconds";
+    private static final int MAX_LAUNCH_ATTEMPTS = 3;
+    private static final long LAUNCH_BACKOFF_MILLIS = 1000;
+    private static final long IDLE_POLL_MILLIS = 250;
+
+    private static volatile DriverPool instance;
+
+    private final String browserName;
+    private final int size;
+    private final int maxLeases;
+    private final Duration maxAge;
+    private final long leaseTimeoutSeconds;
+
+    private final BlockingQueue<PooledDriver> idle = new LinkedBlockingQueue<>();
+    private final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+    private final ExecutorService launcher;
+    private final AtomicInteger pendingLaunches = new AtomicInteger();
+    private volatile RuntimeException lastLaunchFailure;
+    private volatile boolean closed;
+
+    // ---------- Metrics ----------
+    private final AtomicLong leaseCount = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong recycleCount = new AtomicLong();
+    private final AtomicLong launchFailureCount = new AtomicLong();
+    private final AtomicLong totalLeaseWaitNanos = new AtomicLong();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+
+    private DriverPool(String browserName) {
+        this.browserName = browserName;
+        this.size = Math.max(1, PropertiesUtils.getIntProperty(POOL_SIZE_KEY, 2));
+        this.maxLeases = Math.max(1, PropertiesUtils.getIntProperty(MAX_LEASES_KEY, 25));
+        this.maxAge = Duration.ofSeconds(PropertiesUtils.getLongProperty(MAX_AGE_SECONDS_KEY, 600));
+        this.leaseTimeoutSeconds = PropertiesUtils.getLongProperty(LEASE_TIMEOUT_SECONDS_KEY, 120);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.launcher = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-launcher-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (int i = 0; i < size; i++) {
+            launchReplacement();
+        }
+        log.info("Driver pool started: browser={}, size={}, maxLeases={}, maxAge={}s",
+                browserName, size, maxLeases, maxAge.toSeconds());
+    }
+
+    /**
+     * Returns the JVM-wide pool, pre-launching its browsers on first use.
+     */
+    public static DriverPool getInstance(String browserName) {
+        DriverPool pool = instance;
+        if (pool == null) {
+            synchronized (DriverPool.class) {
+                pool = instance;
+                if (pool == null) {
+                    pool = new DriverPool(browserName);
+                    instance = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Returns the pool if it has been started, otherwise null.
+     */
+    public static DriverPool getIfStarted() {
+        return instance;
+    }
+
+    // ---------- Lease / release ----------
+
+    /**
+     * Blocks until a warm browser is available and hands it to the caller.
+     */
+    public WebDriver lease() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool has been shut down.");
+        }
+        long start = System.nanoTime();
+        PooledDriver pooled = idle.poll();
+        boolean hit = pooled != null;
+
+        while (true) {
+            if (pooled == null) {
+                pooled = awaitIdleDriver();
+            }
+            if (pooled.isExpired()) {
+                // Aged out while idle: retire and try the next one
+                retire(pooled, "max age reached while idle");
+            } else if (!DriverHealthCheck.isAlive(pooled.driver)) {
+                // Crashed while idle: never hand it out
+                log.info("Replacing pooled driver that failed its health check");
+                recycleCount.incrementAndGet();
+                DriverHealthCheck.discard(pooled.driver);
+                DriverHealthCheck.recordReplacement();
+                launchReplacement();
+            } else {
+                break;
+            }
+            pooled = null;
+            hit = false;
+        }
+
+        long waitNanos = System.nanoTime() - start;
+        recordLease(waitNanos, hit);
+        pooled.leases++;
+        leased.put(pooled.driver, pooled);
+        log.debug("Leased pooled driver (lease #{} of this browser) after {} ms",
+                pooled.leases, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        return pooled.driver;
+    }
+
+    /**
+     * Returns a leased browser to the pool. The browser is scrubbed and kept warm,
+     * or retired and replaced when it hit its lease/age limit or cannot be scrubbed.
+     */
+    public void release(WebDriver webDriver) {
+        PooledDriver pooled = leased.get(webDriver);
+        if (pooled == null) {
+            // Not one of ours (or pool already drained) - nothing to keep warm
+            webDriver.quit();
+            return;
+        }
+        // Stays in 'leased' until it is idle again or its replacement is pending, so waiting
+        // leases never see an empty pool while it is being scrubbed
+        try {
+            if (closed) {
+                quitQuietly(pooled.driver);
+                return;
+            }
+            if (pooled.leases >= maxLeases) {
+                retire(pooled, "max leases reached");
+                return;
+            }
+            if (pooled.isExpired()) {
+                retire(pooled, "max age reached");
+                return;
+            }
+            try {
+                scrub(pooled.driver);
+                idle.offer(pooled);
+            } catch (RuntimeException e) {
+                log.warn("Failed to scrub pooled driver, retiring it: {}", e.getMessage());
+                retire(pooled, "scrub failed");
+            }
+        } finally {
+            leased.remove(webDriver);
+        }
+    }
+
+    /**
+     * Drops a leased browser that crashed and launches a replacement in the background.
+     */
+    void discard(WebDriver webDriver) {
+        PooledDriver pooled = leased.get(webDriver);
+        DriverHealthCheck.discard(webDriver);
+        if (pooled != null) {
+            log.info("Replacing crashed pooled driver after {} lease(s)", pooled.leases);
+            recycleCount.incrementAndGet();
+            DriverHealthCheck.recordReplacement();
+            launchReplacement();
+            leased.remove(webDriver);
+        }
+    }
+
+    /**
+     * Quits every browser owned by the pool. Safe to call more than once.
+     */
+    public void shutdown() {
+        closed = true;
+        launcher.shutdownNow();
+        List<PooledDriver> all = new ArrayList<>(leased.values());
+        leased.clear();
+        idle.drainTo(all);
+        for (PooledDriver pooled : all) {
+            quitQuietly(pooled.driver);
+        }
+        synchronized (DriverPool.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+        log.info("Driver pool shut down. {}", getMetricsSummary());
+    }
+
+    // ---------- Metrics ----------
+
+    public long getLeaseCount() {
+        return leaseCount.get();
+    }
+
+    public long getRecycleCount() {
+        return recycleCount.get();
+    }
+
+    public double getHitRate() {
+        long leases = leaseCount.get();
+        return leases == 0 ? 0.0 : (double) hitCount.get() / leases;
+    }
+
+    public long getAverageLeaseWaitMillis() {
+        long leases = leaseCount.get();
+        return leases == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLeaseWaitNanos.get() / leases);
+    }
+
+    public long getMaxLeaseWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get());
+    }
+
+    public String getMetricsSummary() {
+        return String.format(
+                "Driver pool [browser=%s, size=%d]: leases=%d, hitRate=%.1f%%, avgLeaseWait=%d ms, " +
+                        "maxLeaseWait=%d ms, recycled=%d, launchFailures=%d",
+                browserName, size, getLeaseCount(), getHitRate() * 100,
+                getAverageLeaseWaitMillis(), getMaxLeaseWaitMillis(),
+                getRecycleCount(), launchFailureCount.get());
+    }
+
+    // ---------- Internals ----------
+
+    /**
+     * Waits for an idle browser. Fails at once when none can arrive: nothing idle, no launch
+     * pending and no leased browser that will be returned (e.g. every replacement launch failed).
+     */
+    private PooledDriver awaitIdleDriver() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseTimeoutSeconds);
+        try {
+            while (System.nanoTime() < deadline) {
+                PooledDriver pooled = idle.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (pooled != null) {
+                    return pooled;
+                }
+                if (pendingLaunches.get() == 0 && leased.isEmpty() && idle.isEmpty()) {
+                    RuntimeException cause = lastLaunchFailure;
+                    throw new IllegalStateException("No pooled '" + browserName + "' driver available and none " +
+                            "is being launched" + (cause == null ? "." : "; last launch failed: " + cause.getMessage()),
+                            cause);
+                }
+            }
+            throw new IllegalStateException(
+                    "No pooled driver became available within " + leaseTimeoutSeconds + " seconds. " +
+                            "Increase '" + POOL_SIZE_KEY + "' or '" + LEASE_TIMEOUT_SECONDS_KEY + "'.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled driver.", e);
+        }
+    }
+
+    private void recordLease(long waitNanos, boolean hit) {
+        leaseCount.incrementAndGet();
+        if (hit) {
+            hitCount.incrementAndGet();
+        }
+        totalLeaseWaitNanos.addAndGet(waitNanos);
+        maxLeaseWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private void retire(PooledDriver pooled, String reason) {
+        log.info("Retiring pooled driver after {} lease(s): {}", pooled.leases, reason);
+        recycleCount.incrementAndGet();
+        quitQuietly(pooled.driver);
+        launchReplacement();
+    }
+
+    private void launchReplacement() {
+        if (closed) {
+            return;
+        }
+        pendingLaunches.incrementAndGet();
+        try {
+            launcher.submit(() -> {
+                try {
+                    launchWithRetry();
+                } finally {
+                    pendingLaunches.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shut down between the check and the submit
+            pendingLaunches.decrementAndGet();
+        }
+    }
+
+    /**
+     * Launches one browser, retrying with back-off (1 s, 2 s) so a transient failure
+     * does not shrink the pool for the rest of the run.
+     */
+    private void launchWithRetry() {
+        for (int attempt = 1; attempt <= MAX_LAUNCH_ATTEMPTS && !closed; attempt++) {
+            try {
+                WebDriver webDriver = DriverFactory.createDriver(browserName);
+                if (closed) {
+                    quitQuietly(webDriver);
+                    return;
+                }
+                idle.offer(new PooledDriver(webDriver));
+                return;
+            } catch (RuntimeException e) {
+                launchFailureCount.incrementAndGet();
+                lastLaunchFailure = e;
+                log.error("Failed to launch pooled '{}' driver (attempt {}/{}): {}",
+                        browserName, attempt, MAX_LAUNCH_ATTEMPTS, e.getMessage());
+            }
+            if (attempt < MAX_LAUNCH_ATTEMPTS) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(LAUNCH_BACKOFF_MILLIS << (attempt - 1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Brings a returned browser back to a clean state: one window, no cookies,
+     * and empty local/session storage for the application origin.
+     */
+    private void scrub(WebDriver webDriver) {
+        List<String> handles = new ArrayList<>(webDriver.getWindowHandles());
+        String keep = handles.get(0);
+        for (String handle : handles) {
+            if (!handle.equals(keep)) {
+                webDriver.switchTo().window(handle);
+                webDriver.close();
+            }
+        }
+        webDriver.switchTo().window(keep);
+
+        // Storage is per-origin, so make sure we are on the app before clearing it
+        String baseUrl = PropertiesUtils.getProperty("base.url");
+        String currentUrl = webDriver.getCurrentUrl();
+        if (baseUrl != null && (currentUrl == null || !currentUrl.startsWith(baseUrl))) {
+            webDriver.get(baseUrl);
+        }
+        webDriver.manage().deleteAllCookies();
+        ((JavascriptExecutor) webDriver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+    }
+
+    private static void quitQuietly(WebDriver webDriver) {
+        try {
+            webDriver.quit();
+        } catch (RuntimeException e) {
+            log.warn("Failed to quit pooled driver: {}", e.getMessage());
+        }
+    }
+
+    private final class PooledDriver {
+        private final WebDriver driver;
+        private final long createdAtNanos = System.nanoTime();
+        private int leases;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - createdAtNanos > maxAge.toNanos();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.saucedemo.utilities.selenium.driver;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Look-ahead driver provisioning used when driver.mode=prefetch.
+ * Every time a test claims a browser, the launch of the next one is started on a
+ * background executor, so it is (ideally) ready by the time the next test starts.
+ * Drivers are still used once; finished drivers are quit in the background too.
+ * If a prefetched launch failed, the claim falls back to a synchronous launch.
+ */
+public class DriverPrefetcher {
+
+    private static final Logger log = LogsUtils.getLogger(DriverPrefetcher.class);
+
+    private static final String PREFETCH_DEPTH_KEY = "driver.prefetch.depth";
+    private static final String CLAIM_TIMEOUT_SECONDS_KEY = "driver.prefetch.claim.timeout.seconds";
+
+    private static volatile DriverPrefetcher instance;
+
+    private final String browserName;
+    private final int depth;
+    private final long claimTimeoutSeconds;
+    private final Queue<CompletableFuture<PrefetchedDriver>> pending = new ConcurrentLinkedQueue<>();
+    private final ExecutorService launcher;
+    private final ExecutorService closer;
+    private volatile boolean closed;
+
+    // ---------- Metrics ----------
+    private final AtomicLong claimCount = new AtomicLong();
+    private final AtomicLong prefetchedClaimCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+    private final AtomicLong totalLaunchNanos = new AtomicLong();
+    private final AtomicLong hiddenLaunchNanos = new AtomicLong();
+    private final AtomicLong totalClaimWaitNanos = new AtomicLong();
+
+    private DriverPrefetcher(String browserName) {
+        this.browserName = browserName;
+        this.depth = Math.max(1, PropertiesUtils.getIntProperty(PREFETCH_DEPTH_KEY, 1));
+        this.claimTimeoutSeconds = PropertiesUtils.getLongProperty(CLAIM_TIMEOUT_SECONDS_KEY, 120);
+        this.launcher = Executors.newFixedThreadPool(depth, daemonThreads("driver-prefetch"));
+        this.closer = Executors.newSingleThreadExecutor(daemonThreads("driver-prefetch-quit"));
+
+        for (int i = 0; i < depth; i++) {
+            prefetchNext();
+        }
+        log.info("Driver prefetcher started: browser={}, depth={}", browserName, depth);
+    }
+
+    public static DriverPrefetcher getInstance(String browserName) {
+        DriverPrefetcher prefetcher = instance;
+        if (prefetcher == null) {
+            synchronized (DriverPrefetcher.class) {
+                prefetcher = instance;
+                if (prefetcher == null) {
+                    prefetcher = new DriverPrefetcher(browserName);
+                    instance = prefetcher;
+                }
+            }
+        }
+        return prefetcher;
+    }
+
+    public static DriverPrefetcher getIfStarted() {
+        return instance;
+    }
+
+    // ---------- Claim / retire ----------
+
+    /**
+     * Takes the next prefetched browser (waiting for its launch to finish if needed)
+     * and immediately starts prefetching the one after it.
+     */
+    public WebDriver claim() {
+        if (closed) {
+            throw new IllegalStateException("Driver prefetcher has been shut down.");
+        }
+        claimCount.incrementAndGet();
+        CompletableFuture<PrefetchedDriver> next = pending.poll();
+        prefetchNext();
+
+        if (next != null) {
+            long start = System.nanoTime();
+            try {
+                PrefetchedDriver prefetched = next.get(claimTimeoutSeconds, TimeUnit.SECONDS);
+                long waitNanos = System.nanoTime() - start;
+                if (DriverHealthCheck.isAlive(prefetched.driver)) {
+                    prefetchedClaimCount.incrementAndGet();
+                    totalClaimWaitNanos.addAndGet(waitNanos);
+                    hiddenLaunchNanos.addAndGet(Math.max(0, prefetched.launchNanos - waitNanos));
+                    return prefetched.driver;
+                }
+                // Died while waiting to be claimed
+                log.warn("Prefetched driver failed its health check, launching synchronously.");
+                DriverHealthCheck.discard(prefetched.driver);
+                DriverHealthCheck.recordReplacement();
+            } catch (ExecutionException e) {
+                log.warn("Prefetched driver launch failed ({}), launching synchronously.", e.getMessage());
+            } catch (TimeoutException e) {
+                // cancel() can't stop a launch already in progress; quit its browser once it is up
+                log.warn("Prefetched driver not ready within {} s, launching synchronously.", claimTimeoutSeconds);
+                quitWhenLaunched(next);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a prefetched driver.", e);
+            }
+        }
+
+        fallbackCount.incrementAndGet();
+        return launch().driver;
+    }
+
+    /**
+     * Quits a finished driver in the background so teardown does not block the next test.
+     */
+    public void retire(WebDriver webDriver) {
+        if (closed) {
+            quitQuietly(webDriver);
+            return;
+        }
+        closer.submit(() -> quitQuietly(webDriver));
+    }
+
+    public void shutdown() {
+        closed = true;
+        List<CompletableFuture<PrefetchedDriver>> leftovers = new ArrayList<>(pending);
+        pending.clear();
+        leftovers.forEach(this::quitWhenLaunched);
+        // Let in-flight launches finish (without interrupting them) so their browsers get quit
+        launcher.shutdown();
+        try {
+            if (!launcher.awaitTermination(claimTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("Prefetch launches still running after {} s at shutdown.", claimTimeoutSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closer.shutdown();
+        try {
+            closer.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (DriverPrefetcher.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+        log.info("Driver prefetcher shut down. {}", getMetricsSummary());
+    }
+
+    // ---------- Metrics ----------
+
+    public long getHiddenLaunchMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(hiddenLaunchNanos.get());
+    }
+
+    public String getMetricsSummary() {
+        long prefetched = prefetchedClaimCount.get();
+        long launchMillis = TimeUnit.NANOSECONDS.toMillis(totalLaunchNanos.get());
+        return String.format(
+                "Driver prefetch [browser=%s, depth=%d]: claims=%d, servedByPrefetch=%d, syncFallbacks=%d, " +
+                        "launchTime=%d ms, hiddenLaunchTime=%d ms (%.1f%%), avgClaimWait=%d ms",
+                browserName, depth, claimCount.get(), prefetched, fallbackCount.get(),
+                launchMillis, getHiddenLaunchMillis(),
+                launchMillis == 0 ? 0.0 : 100.0 * getHiddenLaunchMillis() / launchMillis,
+                prefetched == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalClaimWaitNanos.get() / prefetched));
+    }
+
+    // ---------- Internals ----------
+
+    private void prefetchNext() {
+        if (!closed) {
+            pending.add(CompletableFuture.supplyAsync(this::launch, launcher));
+        }
+    }
+
+    /**
+     * Makes sure a launch nobody will claim does not leave its browser running.
+     */
+    private void quitWhenLaunched(CompletableFuture<PrefetchedDriver> launch) {
+        launch.thenAccept(prefetched -> quitQuietly(prefetched.driver()));
+    }
+
+    private PrefetchedDriver launch() {
+        long start = System.nanoTime();
+        WebDriver webDriver = DriverFactory.createDriver(browserName);
+        long launchNanos = System.nanoTime() - start;
+        totalLaunchNanos.addAndGet(launchNanos);
+        return new PrefetchedDriver(webDriver, launchNanos);
+    }
+
+    private static void quitQuietly(WebDriver webDriver) {
+        try {
+            webDriver.quit();
+        } catch (RuntimeException e) {
+            log.warn("Failed to quit driver: {}", e.getMessage());
+        }
+    }
+
+    private static java.util.concurrent.ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger index = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record PrefetchedDriver(WebDriver driver, long launchNanos) {}
+}
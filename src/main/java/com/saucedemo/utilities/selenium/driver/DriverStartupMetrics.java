@@ -0,0 +1,57 @@
+package com.saucedemo.utilities.selenium.driver;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects browser startup times per launch profile and browser,
+ * so the run report can show what each profile costs to start.
+ */
+public class DriverStartupMetrics {
+
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+
+    private DriverStartupMetrics() {}
+
+    public static void record(LaunchProfile profile, String browserName, long elapsedNanos) {
+        STATS.computeIfAbsent(profile.getKey() + "/" + browserName.toLowerCase(), k -> new Stats())
+                .add(elapsedNanos);
+    }
+
+    public static boolean isEmpty() {
+        return STATS.isEmpty();
+    }
+
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder("Browser startup time per launch profile:");
+        new TreeMap<>(STATS).forEach((key, stats) -> summary
+                .append(System.lineSeparator())
+                .append(String.format("  %s: launches=%d, avg=%d ms, min=%d ms, max=%d ms",
+                        key, stats.count.get(), stats.averageMillis(),
+                        TimeUnit.NANOSECONDS.toMillis(stats.minNanos.get()),
+                        TimeUnit.NANOSECONDS.toMillis(stats.maxNanos.get()))));
+        return summary.toString();
+    }
+
+    private static final class Stats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void add(long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            minNanos.accumulateAndGet(nanos, Math::min);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private long averageMillis() {
+            long n = count.get();
+            return n == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / n);
+        }
+    }
+}
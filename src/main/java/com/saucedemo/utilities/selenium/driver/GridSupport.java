@@ -0,0 +1,311 @@
+package com.saucedemo.utilities.selenium.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Selenium Grid support for browser=remote.
+ * <ul>
+ *     <li>'grid.url' set to a hub/standalone URL: sessions are created there (local or LAN nodes).</li>
+ *     <li>'grid.url=embedded' (or empty): the framework starts its own grid on localhost in child
+ *     processes - either one standalone server, or a hub plus 'grid.embedded.nodes' nodes
+ *     to which additional LAN nodes can also register.</li>
+ * </ul>
+ * Session creation time (queue wait + browser start) and per-node slot utilisation,
+ * sampled from the grid's /status endpoint, are reported at the end of the run.
+ */
+public class GridSupport {
+
+    private static final Logger log = LogsUtils.getLogger(GridSupport.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String GRID_URL_KEY = "grid.url";
+    private static final String GRID_BROWSER_KEY = "grid.browser";
+    private static final String EMBEDDED_MODE_KEY = "grid.embedded.mode";
+    private static final String EMBEDDED_PORT_KEY = "grid.embedded.port";
+    private static final String EMBEDDED_NODES_KEY = "grid.embedded.nodes";
+    private static final String MAX_SESSIONS_KEY = "grid.max.sessions";
+    private static final String STARTUP_TIMEOUT_KEY = "grid.startup.timeout.seconds";
+
+    private static volatile GridSupport instance;
+
+    private final URL gridUrl;
+    private final List<Process> embeddedProcesses = new ArrayList<>();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    // ---------- Metrics ----------
+    private final AtomicLong sessionCount = new AtomicLong();
+    private final AtomicLong totalSessionWaitNanos = new AtomicLong();
+    private final AtomicLong maxSessionWaitNanos = new AtomicLong();
+    private final Map<String, NodeUsage> nodeUsage = new ConcurrentHashMap<>();
+
+    private GridSupport() {
+        String configured = PropertiesUtils.getProperty(GRID_URL_KEY, "embedded").trim();
+        if (configured.isEmpty() || "embedded".equalsIgnoreCase(configured)) {
+            this.gridUrl = startEmbeddedGrid();
+        } else {
+            this.gridUrl = toUrl(configured);
+        }
+        log.info("Using Selenium Grid at {}", gridUrl);
+    }
+
+    public static GridSupport getInstance() {
+        GridSupport grid = instance;
+        if (grid == null) {
+            synchronized (GridSupport.class) {
+                grid = instance;
+                if (grid == null) {
+                    grid = new GridSupport();
+                    instance = grid;
+                }
+            }
+        }
+        return grid;
+    }
+
+    public static GridSupport getIfStarted() {
+        return instance;
+    }
+
+    public URL getGridUrl() {
+        return gridUrl;
+    }
+
+    /**
+     * Records how long the grid took to hand out a session and samples node utilisation.
+     */
+    public void recordSessionCreated(long waitNanos) {
+        sessionCount.incrementAndGet();
+        totalSessionWaitNanos.addAndGet(waitNanos);
+        maxSessionWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        sampleNodeUtilisation();
+    }
+
+    public String getMetricsSummary() {
+        long sessions = sessionCount.get();
+        StringBuilder summary = new StringBuilder(String.format(
+                "Selenium Grid [%s]: sessions=%d, avgSessionWait=%d ms, maxSessionWait=%d ms",
+                gridUrl, sessions,
+                sessions == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalSessionWaitNanos.get() / sessions),
+                TimeUnit.NANOSECONDS.toMillis(maxSessionWaitNanos.get())));
+        new TreeMap<>(nodeUsage).forEach((node, usage) -> summary
+                .append(System.lineSeparator())
+                .append(String.format("  node %s: slots=%d, avgUtilisation=%.1f%%, peakBusy=%d",
+                        node, usage.slots, usage.averageUtilisation() * 100, usage.peakBusy)));
+        return summary.toString();
+    }
+
+    /**
+     * Stops embedded grid processes, if the framework started any.
+     */
+    public void shutdown() {
+        for (Process process : embeddedProcesses) {
+            process.destroy();
+        }
+        for (Process process : embeddedProcesses) {
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+        embeddedProcesses.clear();
+        synchronized (GridSupport.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+    }
+
+    // ---------- Embedded grid ----------
+
+    private URL startEmbeddedGrid() {
+        int port = PropertiesUtils.getIntProperty(EMBEDDED_PORT_KEY, 4444);
+        int maxSessions = PropertiesUtils.getIntProperty(MAX_SESSIONS_KEY, Runtime.getRuntime().availableProcessors());
+        String mode = PropertiesUtils.getProperty(EMBEDDED_MODE_KEY, "standalone").trim().toLowerCase();
+
+        // Export the driver binary so local nodes find it without any network lookups
+        DriverBinaryResolver.resolve(PropertiesUtils.getProperty(GRID_BROWSER_KEY, "chrome").trim());
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "embedded-grid-shutdown"));
+
+        if ("hub".equals(mode)) {
+            int nodes = Math.max(1, PropertiesUtils.getIntProperty(EMBEDDED_NODES_KEY, 2));
+            // Event-bus ports are picked per run, so parallel runs (or other services on the
+            // Selenium defaults 4442/4443) don't collide
+            int publishPort = freePort();
+            int subscribePort = freePort();
+            startGridProcess("hub", List.of("hub", "--port", String.valueOf(port),
+                    "--publish-events", "tcp://*:" + publishPort,
+                    "--subscribe-events", "tcp://*:" + subscribePort));
+            log.info("Embedded hub event bus: publish tcp://<host>:{}, subscribe tcp://<host>:{} (for LAN nodes)",
+                    publishPort, subscribePort);
+            for (int i = 0; i < nodes; i++) {
+                startGridProcess("node-" + (i + 1), List.of("node",
+                        "--port", String.valueOf(freePort()),
+                        "--publish-events", "tcp://localhost:" + publishPort,
+                        "--subscribe-events", "tcp://localhost:" + subscribePort,
+                        "--max-sessions", String.valueOf(maxSessions),
+                        "--override-max-sessions", "true"));
+            }
+        } else {
+            startGridProcess("standalone", List.of("standalone",
+                    "--port", String.valueOf(port),
+                    "--max-sessions", String.valueOf(maxSessions),
+                    "--override-max-sessions", "true"));
+        }
+
+        URL url = toUrl("http://localhost:" + port);
+        waitUntilReady(url);
+        return url;
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not find a free port for the embedded grid", e);
+        }
+    }
+
+    private void startGridProcess(String name, List<String> gridArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        // Pass the exported driver locations on to the grid JVM
+        for (String property : List.of("webdriver.chrome.driver", "webdriver.edge.driver", "webdriver.gecko.driver")) {
+            String value = System.getProperty(property);
+            if (value != null) {
+                command.add("-D" + property + "=" + value);
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("org.openqa.selenium.grid.Main");
+        command.addAll(gridArgs);
+
+        try {
+            Path logDir = Paths.get("test_outputs", "grid");
+            Files.createDirectories(logDir);
+            File logFile = logDir.resolve(name + ".log").toFile();
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(logFile)
+                    .start();
+            embeddedProcesses.add(process);
+            log.info("Started embedded grid {} (log: {})", name, logFile);
+        } catch (IOException e) {
+            shutdown();
+            throw new IllegalStateException("Failed to start embedded Selenium Grid " + name, e);
+        }
+    }
+
+    private void waitUntilReady(URL url) {
+        long timeoutSeconds = PropertiesUtils.getLongProperty(STARTUP_TIMEOUT_KEY, 60);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (System.nanoTime() < deadline) {
+            JsonNode status = readStatus(url);
+            if (status != null && status.path("ready").asBoolean(false)) {
+                return;
+            }
+            try {
+                Thread.sleep(250);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        shutdown();
+        throw new IllegalStateException("Embedded Selenium Grid did not become ready within " + timeoutSeconds +
+                " seconds. See test_outputs/grid/*.log");
+    }
+
+    // ---------- Status / utilisation ----------
+
+    private void sampleNodeUtilisation() {
+        JsonNode status = readStatus(gridUrl);
+        if (status == null) {
+            return;
+        }
+        for (JsonNode node : status.path("nodes")) {
+            int slots = node.path("slots").size();
+            int busy = 0;
+            for (JsonNode slot : node.path("slots")) {
+                if (!slot.path("session").isMissingNode() && !slot.path("session").isNull()) {
+                    busy++;
+                }
+            }
+            nodeUsage.computeIfAbsent(node.path("uri").asText(node.path("id").asText()), k -> new NodeUsage())
+                    .add(slots, busy);
+        }
+    }
+
+    private JsonNode readStatus(URL url) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url.toString().replaceAll("/+$", "") + "/status"))
+                    .timeout(Duration.ofSeconds(2))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return OBJECT_MAPPER.readTree(response.body()).path("value");
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static URL toUrl(String value) {
+        try {
+            return new URL(value);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Property '" + GRID_URL_KEY + "' is not a valid URL: " + value, e);
+        }
+    }
+
+    private static final class NodeUsage {
+        private int slots;
+        private int peakBusy;
+        private long samples;
+        private double utilisationSum;
+
+        private synchronized void add(int slotCount, int busy) {
+            slots = slotCount;
+            peakBusy = Math.max(peakBusy, busy);
+            samples++;
+            utilisationSum += slotCount == 0 ? 0.0 : (double) busy / slotCount;
+        }
+
+        private synchronized double averageUtilisation() {
+            return samples == 0 ? 0.0 : utilisationSum / samples;
+        }
+    }
+}
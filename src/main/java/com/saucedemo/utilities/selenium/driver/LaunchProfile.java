@@ -0,0 +1,106 @@
+package com.saucedemo.utilities.selenium.driver;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+
+import java.util.Arrays;
+
+/**
+ * Named browser launch profiles applied by DriverFactory to Chrome, Edge and Firefox.
+ * Selected with 'launch.profile' in testConfig.properties or -Dlaunch.profile=...
+ */
+public enum LaunchProfile {
+
+    /** Headed browser, window maximized according to 'maximize.window' (original behavior). */
+    DEFAULT("default", false, false, false, false, false, 0, 0),
+
+    /** Fastest functional runs: new headless mode, no GPU/extensions/background traffic, no images. */
+    FAST_HEADLESS("fast-headless", true, true, true, true, true, 1366, 768),
+
+    /** Stable timing runs: headless and quiet, but images stay on so pages load as users see them. */
+    PERF_MEASURE("perf-measure", true, true, true, true, false, 1920, 1080),
+
+    /** Local debugging: visible browser with a fixed, reproducible viewport. */
+    DEBUG_HEADED("debug-headed", false, false, false, false, false, 1920, 1080);
+
+    private static final String LAUNCH_PROFILE_KEY = "launch.profile";
+
+    private final String key;
+    private final boolean headless;
+    private final boolean disableGpu;
+    private final boolean disableExtensions;
+    private final boolean disableBackgroundNetworking;
+    private final boolean disableImages;
+    private final int windowWidth;
+    private final int windowHeight;
+
+    LaunchProfile(String key, boolean headless, boolean disableGpu, boolean disableExtensions,
+                  boolean disableBackgroundNetworking, boolean disableImages,
+                  int windowWidth, int windowHeight) {
+        this.key = key;
+        this.headless = headless;
+        this.disableGpu = disableGpu;
+        this.disableExtensions = disableExtensions;
+        this.disableBackgroundNetworking = disableBackgroundNetworking;
+        this.disableImages = disableImages;
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+    }
+
+    public static LaunchProfile current() {
+        return fromKey(PropertiesUtils.getProperty(LAUNCH_PROFILE_KEY));
+    }
+
+    public static LaunchProfile fromKey(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        for (LaunchProfile profile : values()) {
+            if (profile.key.equalsIgnoreCase(value.trim())) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unsupported launch profile: " + value +
+                        ". Use one of " + Arrays.toString(Arrays.stream(values()).map(LaunchProfile::getKey).toArray()) +
+                        " for '" + LAUNCH_PROFILE_KEY + "' in testConfig.properties.");
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public boolean isDisableGpu() {
+        return disableGpu;
+    }
+
+    public boolean isDisableExtensions() {
+        return disableExtensions;
+    }
+
+    public boolean isDisableBackgroundNetworking() {
+        return disableBackgroundNetworking;
+    }
+
+    public boolean isDisableImages() {
+        return disableImages;
+    }
+
+    /**
+     * True when the profile pins a viewport size instead of maximizing the window.
+     */
+    public boolean hasFixedViewport() {
+        return windowWidth > 0 && windowHeight > 0;
+    }
+
+    public int getWindowWidth() {
+        return windowWidth;
+    }
+
+    public int getWindowHeight() {
+        return windowHeight;
+    }
+}
@@ -0,0 +1,363 @@
+package com.saucedemo.utilities.selenium.driver;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.Command;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.module.Browser;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Isolation mode used when driver.mode=context.
+ * A few BiDi-enabled browsers ('driver.context.browsers', default 1) are launched once; every
+ * test gets its own BiDi user context (a separate cookie/storage partition, like an incognito
+ * profile) with its own tab, instead of its own browser process.
+ * <p>
+ * WebDriver classic commands always act on the session's current window, so each test's driver
+ * is a decorator that switches to the test's tab before every command. Commands from tests sharing
+ * a browser are therefore serialized; the saving is in process count and memory, not CPU.
+ * A shared browser that stops answering is replaced by a fresh one; if that launch fails too,
+ * every later acquire fails at once instead of waiting on the dead browser.
+ */
+public class UserContextIsolation {
+
+    private static final Logger log = LogsUtils.getLogger(UserContextIsolation.class);
+
+    private static final String BROWSER_COUNT_KEY = "driver.context.browsers";
+
+    private static volatile UserContextIsolation instance;
+
+    private final String browserName;
+    private final List<SharedBrowser> browsers = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger nextBrowser = new AtomicInteger();
+    private final Map<WebDriver, ContextLease> leases = Collections.synchronizedMap(new IdentityHashMap<>());
+    private volatile RuntimeException replacementFailure;
+
+    // ---------- Metrics ----------
+    private final AtomicLong contextCount = new AtomicLong();
+    private final AtomicLong totalSetupNanos = new AtomicLong();
+    private final AtomicLong maxSetupNanos = new AtomicLong();
+    private final AtomicInteger activeContexts = new AtomicInteger();
+    private final AtomicInteger peakActiveContexts = new AtomicInteger();
+    private final AtomicLong peakRssKb = new AtomicLong(-1);
+    private final long browserLaunchNanos;
+    private final long rssPerBrowserKb;
+
+    private UserContextIsolation(String browserName) {
+        this.browserName = browserName;
+        int browserCount = Math.max(1, PropertiesUtils.getIntProperty(BROWSER_COUNT_KEY, 1));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < browserCount; i++) {
+            browsers.add(launchSharedBrowser());
+        }
+        this.browserLaunchNanos = (System.nanoTime() - start) / browserCount;
+
+        long rss = BrowserMemorySampler.descendantRssKb();
+        this.rssPerBrowserKb = rss < 0 ? -1 : rss / browserCount;
+        log.info("User context isolation started: browser={}, sharedBrowsers={}", browserName, browserCount);
+    }
+
+    private SharedBrowser launchSharedBrowser() {
+        WebDriver webDriver = DriverFactory.createDriver(browserName, true);
+        if (!(webDriver instanceof HasBiDi hasBiDi) || hasBiDi.maybeGetBiDi().isEmpty()) {
+            webDriver.quit();
+            throw new IllegalStateException("Browser '" + browserName + "' did not open a BiDi connection. " +
+                    "driver.mode=context needs a BiDi-capable browser (recent Chrome, Edge or Firefox).");
+        }
+        return new SharedBrowser(webDriver);
+    }
+
+    public static UserContextIsolation getInstance(String browserName) {
+        UserContextIsolation isolation = instance;
+        if (isolation == null) {
+            synchronized (UserContextIsolation.class) {
+                isolation = instance;
+                if (isolation == null) {
+                    isolation = new UserContextIsolation(browserName);
+                    instance = isolation;
+                }
+            }
+        }
+        return isolation;
+    }
+
+    public static UserContextIsolation getIfStarted() {
+        return instance;
+    }
+
+    // ---------- Acquire / release ----------
+
+    /**
+     * Opens a fresh user context with one tab on the next shared browser and returns
+     * a driver bound to that tab.
+     */
+    public WebDriver acquire() {
+        if (replacementFailure != null) {
+            throw new IllegalStateException("A shared '" + browserName + "' browser crashed and could not be " +
+                    "replaced: " + replacementFailure.getMessage(), replacementFailure);
+        }
+        int index = Math.floorMod(nextBrowser.getAndIncrement(), browsers.size());
+        long start = System.nanoTime();
+        ContextLease lease;
+        try {
+            lease = browsers.get(index).openContext();
+        } catch (RuntimeException e) {
+            // The shared browser may have crashed since the last test; replace it and retry once
+            if (!replaceIfCrashed(browsers.get(index))) {
+                throw e;
+            }
+            lease = browsers.get(index).openContext();
+        }
+        long setupNanos = System.nanoTime() - start;
+
+        contextCount.incrementAndGet();
+        totalSetupNanos.addAndGet(setupNanos);
+        maxSetupNanos.accumulateAndGet(setupNanos, Math::max);
+        peakActiveContexts.accumulateAndGet(activeContexts.incrementAndGet(), Math::max);
+        peakRssKb.accumulateAndGet(BrowserMemorySampler.descendantRssKb(), Math::max);
+
+        leases.put(lease.proxy, lease);
+        return lease.proxy;
+    }
+
+    /**
+     * Closes the test's user context (and every tab in it); the browser keeps running.
+     */
+    public void release(WebDriver webDriver) {
+        ContextLease lease = leases.remove(webDriver);
+        if (lease == null) {
+            log.warn("Released a driver that was not acquired from UserContextIsolation; quitting it.");
+            webDriver.quit();
+            return;
+        }
+        lease.close();
+        if (DriverHealthCheck.isMarkedDead(webDriver)) {
+            // The test's view failed a health check; find out whether the whole browser is gone
+            DriverHealthCheck.clearMark(webDriver);
+            replaceIfCrashed(lease.browser);
+        }
+    }
+
+    /**
+     * Replaces a shared browser that no longer answers. Returns true if it was replaced.
+     * Contexts still open on it are lost with it (their tests already failed).
+     */
+    private boolean replaceIfCrashed(SharedBrowser browser) {
+        synchronized (browsers) {
+            int index = browsers.indexOf(browser);
+            if (index < 0 || DriverHealthCheck.isSessionAlive(browser.driver)) {
+                return false;
+            }
+            log.warn("Shared '{}' browser stopped answering; launching a replacement.", browserName);
+            try {
+                quietly(browser.driver::quit);
+                browsers.set(index, launchSharedBrowser());
+                DriverHealthCheck.recordReplacement();
+                return true;
+            } catch (RuntimeException e) {
+                replacementFailure = e;
+                throw new IllegalStateException("Could not replace crashed shared browser: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static void quietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.debug("Ignoring failure on crashed browser: {}", e.getMessage());
+        }
+    }
+
+    public void shutdown() {
+        new ArrayList<>(leases.values()).forEach(ContextLease::close);
+        leases.clear();
+        for (SharedBrowser browser : new ArrayList<>(browsers)) {
+            try {
+                browser.driver.quit();
+            } catch (RuntimeException e) {
+                log.warn("Failed to quit shared browser: {}", e.getMessage());
+            }
+        }
+        synchronized (UserContextIsolation.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+        log.info("User context isolation shut down. {}", getMetricsSummary());
+    }
+
+    public String getMetricsSummary() {
+        long contexts = contextCount.get();
+        int peakActive = peakActiveContexts.get();
+        long peakRssMb = peakRssKb.get() < 0 ? -1 : peakRssKb.get() / 1024;
+        long baselineRssMb = rssPerBrowserKb < 0 ? -1 : rssPerBrowserKb / 1024;
+        return String.format(
+                "User contexts [browser=%s, sharedBrowsers=%d]: contexts=%d, avgContextSetup=%d ms, " +
+                        "maxContextSetup=%d ms, peakActiveContexts=%d, peakRss=%s%n" +
+                        "  one-process-per-test baseline: launch=%d ms and ~%s per test, ~%s at the same concurrency",
+                browserName, browsers.size(), contexts,
+                contexts == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalSetupNanos.get() / contexts),
+                TimeUnit.NANOSECONDS.toMillis(maxSetupNanos.get()), peakActive, formatMb(peakRssMb),
+                TimeUnit.NANOSECONDS.toMillis(browserLaunchNanos), formatMb(baselineRssMb),
+                formatMb(baselineRssMb < 0 ? -1 : baselineRssMb * Math.max(1, peakActive)));
+    }
+
+    private static String formatMb(long mb) {
+        return mb < 0 ? "n/a" : mb + " MB";
+    }
+
+    // ---------- Internals ----------
+
+    /**
+     * One BiDi-enabled browser shared by many contexts, plus the tab the session is currently switched to.
+     */
+    private final class SharedBrowser {
+        private final WebDriver driver;
+        private final BiDi biDi;
+        private final Browser browserModule;
+        private final Object lock = new Object();
+        private String activeHandle;
+
+        private SharedBrowser(WebDriver driver) {
+            this.driver = driver;
+            this.biDi = ((HasBiDi) driver).getBiDi();
+            this.browserModule = new Browser(driver);
+            this.activeHandle = driver.getWindowHandle();
+        }
+
+        private ContextLease openContext() {
+            synchronized (lock) {
+                String userContext = browserModule.createUserContext();
+                String handle = openTab(userContext);
+                return new ContextLease(this, userContext, handle);
+            }
+        }
+
+        private String openTab(String userContext) {
+            return new BrowsingContext(driver, new CreateContextParameters(WindowType.TAB).userContext(userContext))
+                    .getId();
+        }
+
+        private void activate(String handle) {
+            if (!handle.equals(activeHandle)) {
+                driver.switchTo().window(handle);
+                activeHandle = handle;
+            }
+        }
+
+        /**
+         * Window handles (top-level browsing contexts) that belong to the given user context.
+         */
+        @SuppressWarnings("unchecked")
+        private Set<String> handlesOf(String userContext) {
+            Map<String, Object> tree = biDi.send(
+                    new Command<>("browsingContext.getTree", Map.of("maxDepth", 0), Map.class));
+            Set<String> handles = new LinkedHashSet<>();
+            for (Object entry : (List<Object>) tree.getOrDefault("contexts", List.of())) {
+                Map<String, Object> context = (Map<String, Object>) entry;
+                if (userContext.equals(context.get("userContext"))) {
+                    handles.add(String.valueOf(context.get("context")));
+                }
+            }
+            return handles;
+        }
+    }
+
+    /**
+     * A test's view of a shared browser: every command first switches to the test's tab.
+     * quit() closes the user context instead of the browser.
+     */
+    private final class ContextLease extends WebDriverDecorator<WebDriver> {
+        private final SharedBrowser browser;
+        private final String userContext;
+        private final WebDriver proxy;
+        private String currentHandle;
+        private boolean closed;
+
+        private ContextLease(SharedBrowser browser, String userContext, String handle) {
+            this.browser = browser;
+            this.userContext = userContext;
+            this.currentHandle = handle;
+            this.proxy = decorate(browser.driver);
+        }
+
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            Object original = target.getOriginal();
+            String name = method.getName();
+
+            synchronized (browser.lock) {
+                if (closed) {
+                    throw new NoSuchSessionException("User context " + userContext + " has already been closed.");
+                }
+                if (original instanceof WebDriver) {
+                    switch (name) {
+                        case "quit" -> {
+                            release(proxy);
+                            return null;
+                        }
+                        case "getWindowHandles" -> {
+                            return browser.handlesOf(userContext);
+                        }
+                        default -> { }
+                    }
+                }
+                if (original instanceof WebDriver.TargetLocator && "newWindow".equals(name)) {
+                    currentHandle = browser.openTab(userContext);
+                    browser.activate(currentHandle);
+                    return proxy;
+                }
+
+                browser.activate(currentHandle);
+                Object result = super.call(target, method, args);
+
+                if (original instanceof WebDriver.TargetLocator && "window".equals(name)) {
+                    currentHandle = browser.driver.getWindowHandle();
+                    browser.activeHandle = currentHandle;
+                } else if (original instanceof WebDriver && "close".equals(name)) {
+                    browser.activeHandle = null;
+                }
+                return result;
+            }
+        }
+
+        private void close() {
+            synchronized (browser.lock) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    browser.browserModule.removeUserContext(userContext);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to remove user context {}: {}", userContext, e.getMessage());
+                } finally {
+                    browser.activeHandle = null;
+                    activeContexts.decrementAndGet();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import com.saucedemo.utilities.selenium.driver.DriverManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detects when the application is usable after a navigation, independent of page.load.strategy:
+ * the document is parsed, the React root ('app.ready.root.selector') has rendered content and no
+ * CSS animation or transition is still running. With the eager/none strategies navigation returns
+ * before images have loaded, and this check is what the page objects wait for instead.
+ * Pages on other origins (e.g. social links) only wait for the document to be parsed.
+ * A page that does not become ready within the explicit wait is logged, not failed; the
+ * element waits that follow decide.
+ */
+public class AppReady {
+
+    private static final Logger log = LogsUtils.getLogger(AppReady.class);
+
+    private static final String ROOT_SELECTOR_KEY = "app.ready.root.selector";
+    private static final String EXPLICIT_WAIT_KEY = "explicit.wait.seconds";
+
+    private static final String READY_SCRIPT =
+            "var appOrigin = arguments[0], rootSelector = arguments[1], timeout = arguments[2]," +
+            "    done = arguments[arguments.length - 1], start = Date.now();" +
+            "function ready() {" +
+            "  if (document.readyState === 'loading') return false;" +
+            "  if (location.origin !== appOrigin) return true;" +
+            "  var root = document.querySelector(rootSelector);" +
+            "  if (!root || root.childElementCount === 0) return false;" +
+            "  if (typeof document.getAnimations !== 'function') return true;" +
+            "  return document.getAnimations().every(function (a) {" +
+            "    var timing = a.effect && a.effect.getComputedTiming ? a.effect.getComputedTiming() : null;" +
+            "    return a.playState !== 'running' && a.playState !== 'pending'" +
+            "        || (timing && timing.iterations === Infinity);" +
+            "  });" +
+            "}" +
+            "(function check() {" +
+            "  if (ready()) { done(true); return; }" +
+            "  if (Date.now() - start >= timeout) { done(false); return; }" +
+            "  setTimeout(check, 25);" +
+            "})();";
+
+    // ---------- Metrics ----------
+    private static final AtomicLong waits = new AtomicLong();
+    private static final AtomicLong notReady = new AtomicLong();
+    private static final AtomicLong totalWaitNanos = new AtomicLong();
+
+    private AppReady() {}
+
+    /**
+     * Waits until the current page is usable (see class comment).
+     */
+    public static void await() {
+        long start = System.nanoTime();
+        long timeoutMillis = TimeUnit.SECONDS.toMillis(PropertiesUtils.getLongProperty(EXPLICIT_WAIT_KEY, 10));
+        String rootSelector = PropertiesUtils.getProperty(ROOT_SELECTOR_KEY, "#root");
+
+        boolean ready = false;
+        // A second attempt covers a redirect that unloaded the first script
+        for (int attempt = 1; attempt <= 2 && !ready; attempt++) {
+            long remaining = timeoutMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            try {
+                Object result = ((JavascriptExecutor) DriverManager.getDriver())
+                        .executeAsyncScript(READY_SCRIPT, appOrigin(), rootSelector, Math.max(0, remaining));
+                ready = Boolean.TRUE.equals(result);
+                if (!ready) {
+                    break;
+                }
+            } catch (WebDriverException e) {
+                log.debug("App-ready check interrupted: {}", e.getClass().getSimpleName());
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        waits.incrementAndGet();
+        totalWaitNanos.addAndGet(elapsed);
+        if (!ready) {
+            notReady.incrementAndGet();
+            log.warn("Application not ready after {} ms; continuing with element waits.",
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private static String appOrigin() {
+        String baseUrl = PropertiesUtils.getProperty("base.url", "");
+        try {
+            URI uri = URI.create(baseUrl.trim());
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return "";
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    public static boolean hasActivity() {
+        return waits.get() > 0;
+    }
+
+    public static String getMetricsSummary() {
+        long count = waits.get();
+        return String.format("App ready: waits=%d, notReady=%d, avgWait=%d ms",
+                count, notReady.get(), count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / count));
+    }
+}
@@ -0,0 +1,226 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import com.saucedemo.utilities.selenium.driver.DriverManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Click-and-read actions that check actionability and act in one browser-side step: the script finds the element,
+ * checks it is visible, enabled and not covered by another element (hit test at its centre),
+ * clicks it and reads the text of a second element (e.g. the cart badge), all in a single round trip.
+ * If the element is not actionable yet, the regular clickable wait runs and the step is repeated once.
+ * With action.mode=native (the default, or locators without a script equivalent) the WebDriver wait + click
+ * + read path is used. Both paths return an {@link ActionResult}; a click that could not be performed
+ * (element missing, hidden, disabled or covered) is reported in it rather than thrown, and callers decide
+ * whether that is an error ({@link ActionResult#orThrow()}).
+ * Note that script clicks are untrusted DOM events; tests about real pointer input should use {@link ElementActions}.
+ */
+public class AtomicActions {
+
+    private static final Logger log = LogsUtils.getLogger(AtomicActions.class);
+
+    private static final String MODE_KEY = "action.mode";
+    private static final ThreadLocal<String> MODE_OVERRIDE = new ThreadLocal<>();
+
+    private static final String ACTION_SCRIPT =
+            "var strategy = arguments[0], selector = arguments[1], readLocator = arguments[2];" +
+            JsLocator.FIND_FUNCTION +
+            "function describe(node) {" +
+            "  var text = node.tagName.toLowerCase();" +
+            "  if (node.id) text += '#' + node.id;" +
+            "  if (typeof node.className === 'string' && node.className.trim()) text += '.' + node.className.trim().split(/\\s+/).join('.');" +
+            "  return text;" +
+            "}" +
+            "var el = find();" +
+            "if (!el) return { found: false };" +
+            "var style = window.getComputedStyle(el);" +
+            "if (el.getClientRects().length === 0 || style.visibility === 'hidden' || style.opacity === '0'" +
+            "    || el.disabled || el.getAttribute('aria-disabled') === 'true') {" +
+            "  return { found: true, clickable: false };" +
+            "}" +
+            "var rect = el.getBoundingClientRect();" +
+            "if (rect.top < 0 || rect.left < 0 || rect.bottom > window.innerHeight || rect.right > window.innerWidth) {" +
+            "  el.scrollIntoView({ block: 'center', inline: 'center' });" +
+            "  rect = el.getBoundingClientRect();" +
+            "}" +
+            "var hit = document.elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);" +
+            "if (hit && hit !== el && !el.contains(hit)) {" +
+            "  return { found: true, clickable: true, obscured: true, obscuredBy: describe(hit) };" +
+            "}" +
+            "el.click();" +
+            "strategy = readLocator[0]; selector = readLocator[1];" +
+            "var target = find();" +
+            "return { found: true, clickable: true, obscured: false, performed: true," +
+            "         state: target ? target.innerText.trim() : null };";
+
+    // ---------- Metrics ----------
+    private static final AtomicLong actions = new AtomicLong();
+    private static final AtomicLong retries = new AtomicLong();
+    private static final AtomicLong obscuredAttempts = new AtomicLong();
+    private static final AtomicLong nativeFallbacks = new AtomicLong();
+
+    private AtomicActions() {}
+
+    /**
+     * Clicks the element and reads the text of {@code readLocator} right after the click
+     * (e.g. the cart badge); the state is null if that element is absent.
+     */
+    public static ActionResult clickAndRead(By locator, By readLocator) {
+        return LocatorProfiler.profile(locator, "atomicClickAndRead", () -> perform(locator, readLocator));
+    }
+
+    /**
+     * Runs {@code action} with action.mode set to {@code mode} for the current thread only,
+     * e.g. for tests that check both modes while other tests run in parallel.
+     */
+    public static <T> T withMode(String mode, Supplier<T> action) {
+        String previous = MODE_OVERRIDE.get();
+        MODE_OVERRIDE.set(mode);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                MODE_OVERRIDE.remove();
+            } else {
+                MODE_OVERRIDE.set(previous);
+            }
+        }
+    }
+
+    private static ActionResult perform(By locator, By readLocator) {
+        actions.incrementAndGet();
+        JsLocator jsLocator = JsLocator.from(locator);
+        JsLocator jsReadLocator = JsLocator.from(readLocator);
+        if (!isAtomicMode() || jsLocator == null || jsReadLocator == null) {
+            return performNatively(locator, readLocator);
+        }
+        List<String> readArgument = List.of(jsReadLocator.strategy(), jsReadLocator.value());
+
+        ActionResult result = null;
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            try {
+                Object response = ((JavascriptExecutor) DriverManager.getDriver()).executeScript(ACTION_SCRIPT,
+                        jsLocator.strategy(), jsLocator.value(), readArgument);
+                LocatorProfiler.addRoundTrips(1);
+                result = ActionResult.fromScriptResult(locator, (Map<?, ?>) response, attempt);
+            } catch (JavascriptException e) {
+                log.debug("Atomic click not usable for {} ({}), using WebDriver commands.", locator, e.getRawMessage());
+                return performNatively(locator, readLocator);
+            }
+            if (result.obscured()) {
+                obscuredAttempts.incrementAndGet();
+            }
+            if (result.performed() || attempt == 2) {
+                break;
+            }
+            retries.incrementAndGet();
+            try {
+                WaitHelpers.waitForClickable(locator);
+            } catch (TimeoutException e) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static ActionResult performNatively(By locator, By readLocator) {
+        nativeFallbacks.incrementAndGet();
+        WebDriver driver = DriverManager.getDriver();
+        WebElement element;
+        try {
+            element = WaitHelpers.waitForClickable(locator);
+        } catch (TimeoutException e) {
+            boolean found = !driver.findElements(locator).isEmpty();
+            return new ActionResult(locator, false, found, false, false, null, null, 1);
+        }
+        try {
+            element.click();
+        } catch (ElementClickInterceptedException e) {
+            return new ActionResult(locator, false, true, true, true, null, null, 1);
+        }
+        List<WebElement> targets = driver.findElements(readLocator);
+        String state = targets.isEmpty() ? null : targets.get(0).getText().trim();
+        LocatorProfiler.addRoundTrips(3);
+        return new ActionResult(locator, true, true, true, false, null, state, 1);
+    }
+
+    private static boolean isAtomicMode() {
+        String override = MODE_OVERRIDE.get();
+        String mode = (override != null ? override : PropertiesUtils.getProperty(MODE_KEY, "native")).trim().toLowerCase();
+        return switch (mode) {
+            case "atomic" -> true;
+            case "native" -> false;
+            default -> throw new IllegalStateException(
+                    "Unsupported action.mode in testConfig.properties: " + mode + " (use atomic or native)");
+        };
+    }
+
+    public static boolean hasActivity() {
+        return actions.get() > 0;
+    }
+
+    public static String getMetricsSummary() {
+        return String.format("Atomic actions: actions=%d, retriesAfterWait=%d, obscuredAttempts=%d, nativeFallbacks=%d",
+                actions.get(), retries.get(), obscuredAttempts.get(), nativeFallbacks.get());
+    }
+
+    /**
+     * Outcome of an atomic action.
+     *
+     * @param performed     true if the action ran
+     * @param found         false if no element matched the locator
+     * @param clickable     false if the element was hidden or disabled
+     * @param obscured      true if another element ({@code obscuredBy}) covered the element's centre
+     * @param state         state right after the action (see the individual actions)
+     * @param attempts      1, or 2 if the element had to be waited for
+     */
+    public record ActionResult(By locator, boolean performed, boolean found, boolean clickable, boolean obscured,
+                               String obscuredBy, String state, int attempts) {
+
+        static ActionResult fromScriptResult(By locator, Map<?, ?> values, int attempt) {
+            Object state = values.get("state");
+            Object obscuredBy = values.get("obscuredBy");
+            return new ActionResult(locator,
+                    Boolean.TRUE.equals(values.get("performed")),
+                    Boolean.TRUE.equals(values.get("found")),
+                    Boolean.TRUE.equals(values.get("clickable")),
+                    Boolean.TRUE.equals(values.get("obscured")),
+                    obscuredBy == null ? null : obscuredBy.toString(),
+                    state == null ? null : state.toString(),
+                    attempt);
+        }
+
+        /**
+         * Returns this result if the action ran, otherwise throws the exception the matching
+         * WebDriver command would have thrown.
+         */
+        public ActionResult orThrow() {
+            if (performed) {
+                return this;
+            }
+            if (!found) {
+                throw new NoSuchElementException("No element found for " + locator);
+            }
+            if (obscured) {
+                throw new ElementClickInterceptedException("Element " + locator + " is not clickable: covered by " +
+                        (obscuredBy == null ? "another element" : obscuredBy));
+            }
+            throw new ElementNotInteractableException("Element " + locator + " is hidden or disabled");
+        }
+    }
+}
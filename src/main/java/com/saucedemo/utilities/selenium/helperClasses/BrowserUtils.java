@@ -9,13 +9,18 @@ public class BrowserUtils {
 
     private static final Logger log = LogsUtils.getLogger(BrowserUtils.class);
 
+    /**
+     * Opens the URL and returns once the application is usable (see {@link AppReady}).
+     */
     public static void openUrl(String url) {
         DriverManager.getDriver().get(url);
+        AppReady.await();
         log.info("Opened URL: {}", url);
     }
 
     public static void refresh() {
         DriverManager.getDriver().navigate().refresh();
+        AppReady.await();
         log.info("Browser refreshed.");
     }
 
@@ -0,0 +1,197 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Browser-side waits used when wait.mode=dom.
+ * One executeAsyncScript call installs a MutationObserver that re-checks the condition on every
+ * DOM change, plus a 'wait.polling.millis' timer for changes that don't mutate the DOM (a CSS
+ * transition ending, an image loading), and answers as soon as it holds, returning the element in the
+ * same round trip. Text conditions compare the rendered text (innerText), like the polling wait.
+ * Waits are split into chunks of at most 'wait.dom.chunk.millis' so a navigation (which kills
+ * the script) or the driver's script timeout only costs one more call; after a navigation the
+ * next chunk waits 'wait.dom.retry.backoff.millis' first. Any other driver failure (lost session
+ * or window included) is thrown straight away.
+ * Locators without a script equivalent, and pages where the script cannot run, use the
+ * regular polling wait instead.
+ */
+public class DomWaits {
+
+    private static final Logger log = LogsUtils.getLogger(DomWaits.class);
+
+    private static final String WAIT_MODE_KEY = "wait.mode";
+    private static final String CHUNK_MILLIS_KEY = "wait.dom.chunk.millis";
+    private static final String RETRY_BACKOFF_MILLIS_KEY = "wait.dom.retry.backoff.millis";
+    private static final String POLLING_MILLIS_KEY = "wait.polling.millis";
+
+    private static final String WAIT_SCRIPT =
+            "var strategy = arguments[0], selector = arguments[1], kind = arguments[2]," +
+            "    expectedText = arguments[3], timeout = arguments[4], interval = arguments[5]," +
+            "    done = arguments[arguments.length - 1];" +
+            JsLocator.FIND_FUNCTION +
+            "function visible(el) {" +
+            "  if (!el || !el.isConnected) return false;" +
+            "  var style = window.getComputedStyle(el);" +
+            "  if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') return false;" +
+            "  var rect = el.getBoundingClientRect();" +
+            "  return rect.width > 0 && rect.height > 0;" +
+            "}" +
+            "function check() {" +
+            "  var el = find();" +
+            "  switch (kind) {" +
+            "    case 'present': return el ? { el: el } : null;" +
+            "    case 'visible': return visible(el) ? { el: el } : null;" +
+            "    case 'clickable': return visible(el) && !el.disabled ? { el: el } : null;" +
+            "    case 'gone': return visible(el) ? null : { el: null };" +
+            "    case 'text': return visible(el) && (el.innerText || '').indexOf(expectedText) >= 0 ? { el: el } : null;" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            "function answer(result) { done(result ? { met: true, element: result.el } : { met: false }); }" +
+            "var first = check();" +
+            "if (first) { answer(first); return; }" +
+            "var finished = false, timer, poller;" +
+            "function finish(result) {" +
+            "  finished = true; observer.disconnect(); clearTimeout(timer); clearInterval(poller); answer(result);" +
+            "}" +
+            "function recheck() {" +
+            "  if (finished) return;" +
+            "  var result = check();" +
+            "  if (result) finish(result);" +
+            "}" +
+            "var observer = new MutationObserver(recheck);" +
+            "observer.observe(document.documentElement," +
+            "    { childList: true, subtree: true, attributes: true, characterData: true });" +
+            // Transitions, animations and image loads change visibility without mutating the DOM
+            "poller = setInterval(recheck, interval);" +
+            "timer = setTimeout(function () {" +
+            "  if (!finished) finish(check());" +
+            "}, timeout);";
+
+    private DomWaits() {}
+
+    public static boolean isEnabled() {
+        return "dom".equalsIgnoreCase(PropertiesUtils.getProperty(WAIT_MODE_KEY, "poll").trim());
+    }
+
+    /**
+     * The condition a DOM wait checks for; names match the cases in the page script.
+     */
+    public enum Condition {
+        PRESENT("present", "presence of element located by"),
+        VISIBLE("visible", "visibility of element located by"),
+        CLICKABLE("clickable", "element to be clickable"),
+        GONE("gone", "invisibility of element located by"),
+        TEXT("text", "text to be present in element located by");
+
+        private final String scriptName;
+        private final String description;
+
+        Condition(String scriptName, String description) {
+            this.scriptName = scriptName;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Waits for the condition in the browser. Returns the element (null for GONE), throws
+     * TimeoutException when the explicit timeout runs out, or returns {@link Result#unsupported()}
+     * when the caller should use the polling path instead.
+     */
+    public static Result await(WebDriver driver, By locator, Condition condition, String expectedText) {
+        JsLocator jsLocator = JsLocator.from(locator);
+        if (jsLocator == null) {
+            return Result.unsupported();
+        }
+
+        WaitEngine engine = WaitEngine.forCurrentThread();
+        long start = System.nanoTime();
+        long deadline = start + engine.getTimeout().toNanos();
+        long chunkMillis = Math.max(100, PropertiesUtils.getLongProperty(CHUNK_MILLIS_KEY, 5000));
+        long backoffMillis = Math.max(0, PropertiesUtils.getLongProperty(RETRY_BACKOFF_MILLIS_KEY, 100));
+        long recheckMillis = Math.max(16, PropertiesUtils.getLongProperty(POLLING_MILLIS_KEY, 250));
+        String description = "dom: " + condition.description + " " + locator;
+        int roundTrips = 0;
+
+        while (true) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            roundTrips++;
+            try {
+                Object response = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT,
+                        jsLocator.strategy(), jsLocator.value(), condition.scriptName,
+                        expectedText == null ? "" : expectedText, Math.max(0, Math.min(remainingMillis, chunkMillis)),
+                        recheckMillis);
+                if (response instanceof java.util.Map<?, ?> map && Boolean.TRUE.equals(map.get("met"))) {
+                    WaitEngine.record(description, start, roundTrips, true);
+                    return Result.of((WebElement) map.get("element"));
+                }
+            } catch (ScriptTimeoutException e) {
+                // The driver's script timeout is shorter than the chunk; just ask again
+            } catch (StaleElementReferenceException e) {
+                // The answer pointed into a document that was replaced meanwhile
+                log.debug("DOM wait interrupted for {}: stale document", locator);
+                backOff(backoffMillis, deadline);
+            } catch (JavascriptException e) {
+                if (!isNavigation(e)) {
+                    // Invalid selector, CSP, etc. - this condition can't be waited for in the page
+                    log.debug("DOM wait not usable for {} ({}), falling back to polling.", locator, e.getRawMessage());
+                    return Result.unsupported();
+                }
+                // A navigation unloaded the script; the next chunk runs in the new document
+                log.debug("DOM wait interrupted for {}: document unloaded", locator);
+                backOff(backoffMillis, deadline);
+            }
+
+            if (System.nanoTime() >= deadline) {
+                WaitEngine.record(description, start, roundTrips, false);
+                throw new TimeoutException(String.format(
+                        "Expected condition failed: waiting for %s %s (tried for %d second(s) in the browser, %d round trips)",
+                        condition.description, locator, engine.getTimeout().getSeconds(), roundTrips));
+            }
+        }
+    }
+
+    private static boolean isNavigation(JavascriptException e) {
+        String message = String.valueOf(e.getRawMessage()).toLowerCase(Locale.ROOT);
+        return message.contains("unload") || message.contains("navigat") || message.contains("document is not");
+    }
+
+    private static void backOff(long backoffMillis, long deadline) {
+        long sleepMillis = Math.min(backoffMillis, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+        if (sleepMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the page to load.", e);
+        }
+    }
+
+    /**
+     * Outcome of a DOM wait: the element, or a request to use the polling wait instead.
+     */
+    public record Result(WebElement element, boolean supported) {
+        static Result of(WebElement element) {
+            return new Result(element, true);
+        }
+
+        static Result unsupported() {
+            return new Result(null, false);
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package com.saucedemo.utilities.selenium.helperClasses;
 
-import com.saucedemo.pages.BasePage;
 import com.saucedemo.utilities.selenium.driver.DriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
-public class ElementActions extends BasePage {
+public class ElementActions {
 
     private ElementActions() {}
 
@@ -15,33 +14,51 @@ public class ElementActions extends BasePage {
     }
 
     public static void click(By locator) {
-        WebElement element = WaitHelpers.waitForClickable(locator);
-        element.click();
+        LocatorProfiler.run(locator, "click", () -> {
+            WebElement element = WaitHelpers.waitForClickable(locator);
+            element.click();
+            LocatorProfiler.addRoundTrips(1);
+        });
     }
 
     public static void click(WebElement parent, By locator) {
-        parent.findElement(locator).click();
+        LocatorProfiler.run(locator, "click", () -> {
+            parent.findElement(locator).click();
+            LocatorProfiler.addRoundTrips(2);
+        });
     }
 
     public static void type(By locator, String text) {
-        WebElement element = WaitHelpers.waitForVisibility(locator);
-        element.clear();
-        element.sendKeys(text);
+        LocatorProfiler.run(locator, "type", () -> {
+            WebElement element = WaitHelpers.waitForVisibility(locator);
+            element.clear();
+            element.sendKeys(text);
+            LocatorProfiler.addRoundTrips(2);
+        });
     }
 
     public static void clear(By locator) {
-        WebElement element = WaitHelpers.waitForVisibility(locator);
-        element.clear();
+        LocatorProfiler.run(locator, "clear", () -> {
+            WebElement element = WaitHelpers.waitForVisibility(locator);
+            element.clear();
+            LocatorProfiler.addRoundTrips(1);
+        });
     }
 
     public static String getText(By locator) {
-        WebElement element = WaitHelpers.waitForVisibility(locator);
-        return element.getText();
+        return LocatorProfiler.profile(locator, "getText", () -> {
+            WebElement element = WaitHelpers.waitForVisibility(locator);
+            LocatorProfiler.addRoundTrips(1);
+            return element.getText();
+        });
     }
 
     public static String getText(WebElement parent,By locator) {
-        WebElement element = parent.findElement(locator);  // find inside the parent only
-        return element.getText();
+        return LocatorProfiler.profile(locator, "getText", () -> {
+            WebElement element = parent.findElement(locator);  // find inside the parent only
+            LocatorProfiler.addRoundTrips(2);
+            return element.getText();
+        });
     }
 
     public static String getText(WebElement element) {
@@ -49,29 +66,67 @@ public class ElementActions extends BasePage {
     }
 
     public static boolean isDisplayed(By locator) {
-        try {
-            return WaitHelpers.waitForVisibility(locator).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return LocatorProfiler.profile(locator, "isDisplayed", () -> {
+            try {
+                LocatorProfiler.addRoundTrips(1);
+                return WaitHelpers.waitForVisibility(locator).isDisplayed();
+            } catch (Exception e) {
+                return false;
+            }
+        });
     }
 
+    /**
+     * Presence check for elements that may be absent; decides after a short settle window
+     * (see {@link OptionalElements}) instead of the full explicit wait.
+     */
     public static boolean isPresent(By locator) {
-        try {
-            WaitHelpers.waitForPresence(locator);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return OptionalElements.isPresent(locator);
     }
 
     public static String getValue(By locator) {
-        WebElement element = WaitHelpers.waitForVisibility(locator);
-        return element.getAttribute("value");
+        return LocatorProfiler.profile(locator, "getValue", () -> {
+            WebElement element = WaitHelpers.waitForVisibility(locator);
+            LocatorProfiler.addRoundTrips(1);
+            return element.getAttribute("value");
+        });
+    }
+
+    // ---------- Cached element handles (see ElementCache) ----------
+
+    public static void click(ElementCache cache, By locator) {
+        LocatorProfiler.run(locator, "click", () -> cache.apply(locator, WaitHelpers::waitForClickable, element -> {
+            element.click();
+            LocatorProfiler.addRoundTrips(1);
+            return null;
+        }));
+    }
+
+    public static void type(ElementCache cache, By locator, String text) {
+        LocatorProfiler.run(locator, "type", () -> cache.apply(locator, WaitHelpers::waitForVisibility, element -> {
+            element.clear();
+            element.sendKeys(text);
+            LocatorProfiler.addRoundTrips(2);
+            return null;
+        }));
+    }
+
+    public static String getText(ElementCache cache, By locator) {
+        return LocatorProfiler.profile(locator, "getText", () -> cache.apply(locator, WaitHelpers::waitForVisibility, element -> {
+            LocatorProfiler.addRoundTrips(1);
+            return element.getText();
+        }));
+    }
+
+    public static String getValue(ElementCache cache, By locator) {
+        return LocatorProfiler.profile(locator, "getValue", () -> cache.apply(locator, WaitHelpers::waitForVisibility, element -> {
+            LocatorProfiler.addRoundTrips(1);
+            return element.getAttribute("value");
+        }));
     }
 
     public static int count(By locator) {
-        return driver().findElements(locator).size();
+        return LocatorProfiler.profile(locator, "count", () -> driver().findElements(locator).size());
     }
 
 }
@@ -0,0 +1,90 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Opt-in cache of element handles ('element.cache.enabled'), one per page object.
+ * A cached handle is used directly, without a new wait; staleness is detected by the action
+ * itself (StaleElementReferenceException costs no extra round trip), in which case the element
+ * is located again through the normal wait and the action retried once.
+ * The cache only serves the thread that created it; other threads always locate afresh.
+ * Note that a cached handle skips the visibility/clickability wait, so it suits elements that
+ * stay on the page (form fields, buttons), not ones that appear and disappear.
+ */
+public class ElementCache {
+
+    private static final String ENABLED_KEY = "element.cache.enabled";
+
+    // ---------- Metrics (all caches) ----------
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong staleRelocations = new AtomicLong();
+
+    private final boolean enabled =
+            Boolean.parseBoolean(PropertiesUtils.getProperty(ENABLED_KEY, "false").trim());
+    private final Thread owner = Thread.currentThread();
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    /**
+     * Runs the action on the cached element for the locator, or on a freshly located one
+     * (via {@code locate}) if there is none or the cached one went stale.
+     */
+    <T> T apply(By locator, Function<By, WebElement> locate, Function<WebElement, T> action) {
+        if (!enabled || Thread.currentThread() != owner) {
+            return action.apply(locate.apply(locator));
+        }
+        WebElement cached = elements.get(locator);
+        if (cached != null) {
+            try {
+                T result = action.apply(cached);
+                hits.incrementAndGet();
+                return result;
+            } catch (StaleElementReferenceException e) {
+                staleRelocations.incrementAndGet();
+                elements.remove(locator);
+            } catch (ElementNotInteractableException e) {
+                // Still attached but not usable right now: go through the regular wait
+                elements.remove(locator);
+            }
+        }
+        misses.incrementAndGet();
+        WebElement fresh = locate.apply(locator);
+        elements.put(locator, fresh);
+        return action.apply(fresh);
+    }
+
+    /**
+     * Forgets every cached handle, e.g. after the page navigated or reloaded.
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static boolean hasActivity() {
+        return hits.get() + misses.get() > 0;
+    }
+
+    public static String getMetricsSummary() {
+        long lookups = hits.get() + misses.get();
+        return String.format("Element cache: lookups=%d, hits=%d (%.1f%%), misses=%d, staleRelocations=%d",
+                lookups, hits.get(), lookups == 0 ? 0.0 : 100.0 * hits.get() / lookups,
+                misses.get(), staleRelocations.get());
+    }
+}
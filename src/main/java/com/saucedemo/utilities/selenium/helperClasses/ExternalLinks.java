@@ -0,0 +1,108 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import com.saucedemo.utilities.selenium.driver.DriverManager;
+import com.saucedemo.utilities.selenium.network.NavigationCapture;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Resolves where an external link (social icons, About) leads, per 'social.link.mode':
+ * <ul>
+ *     <li>open - click, wait for the external site and read its URL (real navigation, slowest)</li>
+ *     <li>capture - click, record the navigation and abort it before the external page loads
+ *     (Chrome/Edge; other browsers fall back to open)</li>
+ *     <li>href - read the link's resolved href without clicking</li>
+ * </ul>
+ */
+public class ExternalLinks {
+
+    private static final Logger log = LogsUtils.getLogger(ExternalLinks.class);
+
+    private static final String MODE_KEY = "social.link.mode";
+    private static final String CAPTURE_TIMEOUT_KEY = "social.link.capture.timeout.seconds";
+
+    // ---------- Metrics ----------
+    private static final AtomicLong opened = new AtomicLong();
+    private static final AtomicLong captured = new AtomicLong();
+    private static final AtomicLong captureFallbacks = new AtomicLong();
+    private static final AtomicLong hrefReads = new AtomicLong();
+    private static final AtomicLong totalNanos = new AtomicLong();
+
+    enum Mode { OPEN, CAPTURE, HREF }
+
+    private ExternalLinks() {}
+
+    static Mode configuredMode() {
+        String value = PropertiesUtils.getProperty(MODE_KEY, "open").trim().toUpperCase();
+        try {
+            return Mode.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unsupported social.link.mode in testConfig.properties: " + value +
+                    " (use open, capture or href)");
+        }
+    }
+
+    /**
+     * Target URL of the link. {@code openAndRead} is the page's real navigation (click, switch
+     * window, read URL, clean up), used in open mode and as the capture fallback.
+     */
+    public static String getTargetUrl(By link, Supplier<String> openAndRead) {
+        long start = System.nanoTime();
+        try {
+            return switch (configuredMode()) {
+                case HREF -> readHref(link);
+                case CAPTURE -> capture(link, openAndRead);
+                case OPEN -> open(openAndRead);
+            };
+        } finally {
+            totalNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private static String readHref(By link) {
+        String href = WaitHelpers.waitForVisibility(link).getDomProperty("href");
+        if (href == null || href.isBlank()) {
+            throw new IllegalStateException("Link " + link + " has no href");
+        }
+        hrefReads.incrementAndGet();
+        return href;
+    }
+
+    private static String capture(By link, Supplier<String> openAndRead) {
+        NavigationCapture navigationCapture = NavigationCapture.forDriver(DriverManager.getDriver());
+        if (navigationCapture == null) {
+            captureFallbacks.incrementAndGet();
+            log.warn("social.link.mode=capture: no navigation capture on this session (needs Chrome/Edge DevTools); " +
+                    "opening {} instead.", link);
+            return open(openAndRead);
+        }
+        String url = navigationCapture.capture(() -> ElementActions.click(link),
+                PropertiesUtils.getProperty("base.url", "").trim(),
+                Duration.ofSeconds(PropertiesUtils.getLongProperty(CAPTURE_TIMEOUT_KEY, 10)));
+        captured.incrementAndGet();
+        return url;
+    }
+
+    private static String open(Supplier<String> openAndRead) {
+        String url = openAndRead.get();
+        opened.incrementAndGet();
+        return url;
+    }
+
+    public static boolean hasActivity() {
+        return opened.get() + captured.get() + hrefReads.get() > 0;
+    }
+
+    public static String getMetricsSummary() {
+        long count = opened.get() + captured.get() + hrefReads.get();
+        return String.format("External links: opened=%d (captureFallbacks=%d), captured=%d, hrefReads=%d, avgResolve=%d ms",
+                opened.get(), captureFallbacks.get(), captured.get(), hrefReads.get(),
+                count == 0 ? 0 : Duration.ofNanos(totalNanos.get() / count).toMillis());
+    }
+}
@@ -0,0 +1,138 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import com.saucedemo.utilities.selenium.driver.DriverManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills several form inputs in one browser-side call when form.fill.mode=batch.
+ * Values are written with the native value setter followed by bubbling input/change events,
+ * which is what React's controlled inputs listen to, and read back in the same call.
+ * If a field is not rendered yet the call changes nothing; the first missing field is waited for
+ * and the call repeated once. Fields whose value did not stick are typed with keystrokes.
+ * Tests that check keyboard behaviour keep using the per-field methods of the page objects
+ * (or form.fill.mode=keys).
+ */
+public class FormFiller {
+
+    private static final Logger log = LogsUtils.getLogger(FormFiller.class);
+
+    private static final String MODE_KEY = "form.fill.mode";
+
+    private static final String FILL_SCRIPT =
+            "var fields = arguments[0], elements = [];" +
+            "var strategy, selector;" +
+            JsLocator.FIND_FUNCTION +
+            "for (var i = 0; i < fields.length; i++) {" +
+            "  strategy = fields[i][0]; selector = fields[i][1];" +
+            "  var el = find();" +
+            "  if (!el || el.disabled || el.readOnly || el.getClientRects().length === 0) return { missing: i };" +
+            "  elements.push(el);" +
+            "}" +
+            "var values = [];" +
+            "for (var j = 0; j < elements.length; j++) {" +
+            "  var input = elements[j];" +
+            "  var setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(input), 'value').set;" +
+            "  input.focus();" +
+            "  setter.call(input, fields[j][2]);" +
+            "  input.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "  input.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "  input.blur();" +
+            "  values.push(input.value);" +
+            "}" +
+            "return { values: values };";
+
+    // ---------- Metrics ----------
+    private static final AtomicLong batchedForms = new AtomicLong();
+    private static final AtomicLong batchedFields = new AtomicLong();
+    private static final AtomicLong keystrokeFallbacks = new AtomicLong();
+
+    private FormFiller() {}
+
+    public static boolean isBatchMode() {
+        String mode = PropertiesUtils.getProperty(MODE_KEY, "keys").trim().toLowerCase();
+        return switch (mode) {
+            case "batch" -> true;
+            case "keys" -> false;
+            default -> throw new IllegalStateException(
+                    "Unsupported form.fill.mode in testConfig.properties: " + mode + " (use keys or batch)");
+        };
+    }
+
+    /**
+     * Sets every field (in map iteration order, so pass a LinkedHashMap) to its value.
+     * Null values are written as empty strings.
+     */
+    public static void fill(Map<By, String> fields) {
+        List<By> locators = new ArrayList<>(fields.keySet());
+        List<List<String>> scriptFields = new ArrayList<>();
+        for (By locator : locators) {
+            JsLocator jsLocator = JsLocator.from(locator);
+            if (jsLocator == null) {
+                typeAll(fields, locators);
+                return;
+            }
+            scriptFields.add(List.of(jsLocator.strategy(), jsLocator.value(),
+                    Objects.requireNonNullElse(fields.get(locator), "")));
+        }
+
+        Map<?, ?> result = runScript(scriptFields);
+        if (result != null && result.get("missing") instanceof Number missing) {
+            WaitHelpers.waitForVisibility(locators.get(missing.intValue()));
+            result = runScript(scriptFields);
+        }
+        if (result == null || !(result.get("values") instanceof List<?> values)) {
+            log.warn("Batched form fill not possible on this page, typing {} field(s) instead", locators.size());
+            typeAll(fields, locators);
+            return;
+        }
+
+        batchedForms.incrementAndGet();
+        batchedFields.addAndGet(locators.size());
+        for (int i = 0; i < locators.size(); i++) {
+            String expected = scriptFields.get(i).get(2);
+            if (!expected.equals(String.valueOf(values.get(i)))) {
+                log.warn("Value of {} did not stick after batched fill (got '{}'), typing it instead",
+                        locators.get(i), values.get(i));
+                keystrokeFallbacks.incrementAndGet();
+                ElementActions.type(locators.get(i), expected);
+            }
+        }
+    }
+
+    private static Map<?, ?> runScript(List<List<String>> scriptFields) {
+        try {
+            Object result = ((JavascriptExecutor) DriverManager.getDriver()).executeScript(FILL_SCRIPT, scriptFields);
+            return result instanceof Map<?, ?> map ? map : null;
+        } catch (WebDriverException e) {
+            log.debug("Form fill script failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static void typeAll(Map<By, String> fields, List<By> locators) {
+        keystrokeFallbacks.addAndGet(locators.size());
+        for (By locator : locators) {
+            ElementActions.type(locator, Objects.requireNonNullElse(fields.get(locator), ""));
+        }
+    }
+
+    public static boolean hasActivity() {
+        return batchedForms.get() + keystrokeFallbacks.get() > 0;
+    }
+
+    public static String getMetricsSummary() {
+        return String.format("Form fill: batchedForms=%d, batchedFields=%d, keystrokeFallbacks=%d",
+                batchedForms.get(), batchedFields.get(), keystrokeFallbacks.get());
+    }
+}
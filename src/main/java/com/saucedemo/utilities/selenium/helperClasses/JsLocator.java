@@ -0,0 +1,46 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import org.openqa.selenium.By;
+
+/**
+ * A By locator in a form that page scripts can evaluate: a CSS selector for
+ * document.querySelector, or an XPath for document.evaluate.
+ * Id, name and class-name locators are sent as CSS by Selenium already; link-text
+ * locators have no direct DOM equivalent and are not supported.
+ */
+public record JsLocator(String strategy, String value) {
+
+    public static final String CSS = "css";
+    public static final String XPATH = "xpath";
+
+    /**
+     * Converts a locator, or returns null if it has no script equivalent
+     * (callers then fall back to the WebDriver path).
+     */
+    public static JsLocator from(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        return switch (parameters.using()) {
+            case "css selector" -> new JsLocator(CSS, value);
+            case "tag name" -> new JsLocator(CSS, value);
+            case "xpath" -> new JsLocator(XPATH, value);
+            default -> null;
+        };
+    }
+
+    /**
+     * JavaScript function source {@code find(root)} returning the first matching element or null.
+     * Expects the locator in variables {@code strategy} and {@code selector}.
+     */
+    public static final String FIND_FUNCTION =
+            "function find(root) {" +
+            "  if (strategy === 'xpath') {" +
+            "    return document.evaluate(selector, root || document, null," +
+            "        XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "  }" +
+            "  return (root || document).querySelector(selector);" +
+            "}";
+}
@@ -0,0 +1,204 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Records, per locator and page class, how long WaitHelpers/ElementActions calls took,
+ * how many timed out and how many WebDriver round trips they needed, and which tests used them.
+ * Nested calls (an ElementActions call waiting through WaitHelpers) count once, for the outer call.
+ * Disabled with 'locator.profiler.enabled=false'. The report is written by PerformanceReportListener.
+ */
+public class LocatorProfiler {
+
+    private static final String ENABLED_KEY = "locator.profiler.enabled";
+    private static final String PAGE_PACKAGE_PREFIX = "com.saucedemo.page";
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(PropertiesUtils.getProperty(ENABLED_KEY, "true").trim());
+    private static final ThreadLocal<Sample> CURRENT = new ThreadLocal<>();
+    private static final Map<String, LocatorStats> STATS = new ConcurrentHashMap<>();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private LocatorProfiler() {}
+
+    /**
+     * Runs an element operation and records it against the locator.
+     */
+    public static <T> T profile(By locator, String action, Supplier<T> operation) {
+        if (!ENABLED || CURRENT.get() != null) {
+            return operation.get();
+        }
+        Sample sample = new Sample();
+        CURRENT.set(sample);
+        long start = System.nanoTime();
+        boolean timedOut = false;
+        try {
+            return operation.get();
+        } catch (TimeoutException e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            CURRENT.remove();
+            String page = callingPage();
+            STATS.computeIfAbsent(key(locator, page), k -> new LocatorStats(String.valueOf(locator), page))
+                    .add(action, System.nanoTime() - start, Math.max(1, sample.roundTrips), timedOut, currentTestName());
+        }
+    }
+
+    public static void run(By locator, String action, Runnable operation) {
+        profile(locator, action, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Adds WebDriver round trips (polls, script calls, element commands) to the operation in progress.
+     */
+    public static void addRoundTrips(int count) {
+        Sample sample = CURRENT.get();
+        if (sample != null) {
+            sample.roundTrips += count;
+        }
+    }
+
+    public static boolean hasActivity() {
+        return !STATS.isEmpty();
+    }
+
+    /**
+     * All locators, most expensive (total time) first.
+     */
+    public static List<LocatorStats> getRankedStats() {
+        List<LocatorStats> ranked = new ArrayList<>(STATS.values());
+        ranked.sort(Comparator.comparingLong(LocatorStats::getTotalNanos).reversed());
+        return ranked;
+    }
+
+    // ---------- Internals ----------
+
+    private static String key(By locator, String page) {
+        return page + "|" + locator;
+    }
+
+    private static String callingPage() {
+        return STACK_WALKER.walk(frames -> frames
+                .map(frame -> frame.getDeclaringClass().getName())
+                .filter(name -> name.startsWith(PAGE_PACKAGE_PREFIX))
+                .findFirst()
+                .map(name -> name.substring(name.lastIndexOf('.') + 1))
+                .orElse("(no page)"));
+    }
+
+    private static String currentTestName() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null) {
+            return "(no test)";
+        }
+        return result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+
+    private static final class Sample {
+        private int roundTrips;
+    }
+
+    /**
+     * Aggregated cost of one locator as used from one page class.
+     */
+    public static final class LocatorStats {
+        private final String locator;
+        private final String page;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong roundTrips = new AtomicLong();
+        private final Map<String, AtomicLong> actions = new ConcurrentHashMap<>();
+        private final Map<String, AtomicLong> testNanos = new ConcurrentHashMap<>();
+
+        private LocatorStats(String locator, String page) {
+            this.locator = locator;
+            this.page = page;
+        }
+
+        private void add(String action, long nanos, int trips, boolean timedOut, String test) {
+            calls.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            roundTrips.addAndGet(trips);
+            if (timedOut) {
+                timeouts.incrementAndGet();
+            }
+            actions.computeIfAbsent(action, k -> new AtomicLong()).incrementAndGet();
+            testNanos.computeIfAbsent(test, k -> new AtomicLong()).addAndGet(nanos);
+        }
+
+        public String getLocator() {
+            return locator;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public long getCalls() {
+            return calls.get();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
+
+        public long getTotalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos.get());
+        }
+
+        public long getAverageMillis() {
+            return calls.get() == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / calls.get());
+        }
+
+        public long getMaxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+
+        public long getTimeouts() {
+            return timeouts.get();
+        }
+
+        public long getRoundTrips() {
+            return roundTrips.get();
+        }
+
+        public Map<String, Long> getActions() {
+            Map<String, Long> copy = new LinkedHashMap<>();
+            actions.forEach((action, count) -> copy.put(action, count.get()));
+            return copy;
+        }
+
+        /**
+         * Time spent on this locator per test, most expensive test first.
+         */
+        public Map<String, Long> getTestMillis() {
+            Map<String, Long> copy = new LinkedHashMap<>();
+            testNanos.entrySet().stream()
+                    .sorted(Map.Entry.<String, AtomicLong>comparingByValue(
+                            Comparator.comparingLong(AtomicLong::get)).reversed())
+                    .forEach(e -> copy.put(e.getKey(), TimeUnit.NANOSECONDS.toMillis(e.getValue().get())));
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import com.saucedemo.utilities.selenium.driver.DriverManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checks for elements that may legitimately be absent (empty cart badge, no error banner).
+ * Instead of waiting out the full explicit timeout, a check waits for the document to be ready,
+ * then polls for at most 'optional.wait.millis' (the settle window) and decides.
+ * Every decision and how long it took is recorded.
+ */
+public class OptionalElements {
+
+    private static final Logger log = LogsUtils.getLogger(OptionalElements.class);
+
+    private static final String SETTLE_WINDOW_MILLIS_KEY = "optional.wait.millis";
+    private static final String EXPLICIT_WAIT_KEY = "explicit.wait.seconds";
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    // ---------- Metrics ----------
+    private static final AtomicLong presentDecisions = new AtomicLong();
+    private static final AtomicLong absentDecisions = new AtomicLong();
+    private static final AtomicLong totalDecisionNanos = new AtomicLong();
+    private static final AtomicLong maxDecisionNanos = new AtomicLong();
+
+    private OptionalElements() {}
+
+    /**
+     * True if an element matching the locator is visible once the page has settled.
+     */
+    public static boolean isDisplayed(By locator) {
+        return LocatorProfiler.profile(locator, "optionalIsDisplayed", () -> decide(locator, true));
+    }
+
+    /**
+     * True if an element matching the locator is in the DOM once the page has settled.
+     */
+    public static boolean isPresent(By locator) {
+        return LocatorProfiler.profile(locator, "optionalIsPresent", () -> decide(locator, false));
+    }
+
+    public static boolean hasActivity() {
+        return presentDecisions.get() + absentDecisions.get() > 0;
+    }
+
+    public static String getMetricsSummary() {
+        long decisions = presentDecisions.get() + absentDecisions.get();
+        return String.format("Optional element checks: decisions=%d (present=%d, absent=%d), " +
+                        "avgDecision=%d ms, maxDecision=%d ms",
+                decisions, presentDecisions.get(), absentDecisions.get(),
+                decisions == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalDecisionNanos.get() / decisions),
+                TimeUnit.NANOSECONDS.toMillis(maxDecisionNanos.get()));
+    }
+
+    // ---------- Internals ----------
+
+    private static boolean decide(By locator, boolean mustBeVisible) {
+        WebDriver driver = DriverManager.getDriver();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(
+                PropertiesUtils.getLongProperty(SETTLE_WINDOW_MILLIS_KEY, 500));
+        // A page that never finishes loading still gets a decision within the explicit timeout
+        long hardDeadline = start + TimeUnit.SECONDS.toNanos(
+                PropertiesUtils.getLongProperty(EXPLICIT_WAIT_KEY, 10));
+
+        boolean found = false;
+        while (true) {
+            // Only trust a "not found" once the document has finished loading
+            boolean ready = isDocumentReady(driver);
+            if (matches(driver, locator, mustBeVisible)) {
+                found = true;
+                break;
+            }
+            long now = System.nanoTime();
+            if (now >= deadline && (ready || now >= hardDeadline)) {
+                break;
+            }
+            if (!sleep()) {
+                break;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        (found ? presentDecisions : absentDecisions).incrementAndGet();
+        totalDecisionNanos.addAndGet(elapsed);
+        maxDecisionNanos.accumulateAndGet(elapsed, Math::max);
+        log.debug("Decided {} is {} after {} ms", locator, found ? "present" : "absent",
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return found;
+    }
+
+    private static boolean matches(WebDriver driver, By locator, boolean mustBeVisible) {
+        List<WebElement> elements = driver.findElements(locator);
+        // readyState + findElements, plus one isDisplayed per candidate
+        LocatorProfiler.addRoundTrips(2 + (mustBeVisible ? elements.size() : 0));
+        if (!mustBeVisible) {
+            return !elements.isEmpty();
+        }
+        for (WebElement element : elements) {
+            try {
+                if (element.isDisplayed()) {
+                    return true;
+                }
+            } catch (StaleElementReferenceException e) {
+                // Re-rendered while checking; the next poll sees the new node
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDocumentReady(WebDriver driver) {
+        Object state = ((JavascriptExecutor) driver).executeScript("return document.readyState");
+        return "complete".equals(state);
+    }
+
+    private static boolean sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the WebDriver commands sent through a driver, for benchmarks.
+ * Wrap a driver with {@link #decorate(WebDriver)}; every call on it (or on elements found
+ * through it) that goes over the wire increments the counter. Accessors such as manage(),
+ * switchTo() and navigate() only return local objects and are not counted.
+ */
+public class RoundTripCounter implements WebDriverListener {
+
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "switchTo", "navigate", "timeouts",
+            "logs", "toString", "hashCode", "equals", "getWrappedDriver", "getWrappedElement");
+
+    private final AtomicLong count = new AtomicLong();
+
+    public WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(this).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            count.incrementAndGet();
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public void reset() {
+        count.set(0);
+    }
+}
@@ -0,0 +1,227 @@
+package com.saucedemo.utilities.selenium.helperClasses;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.selenium.driver.DriverManager;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Wait;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Explicit wait used by WaitHelpers. One engine is kept per thread and rebuilt only when the
+ * thread's driver changes, so the timeout and polling settings are read from
+ * testConfig.properties once instead of on every wait.
+ * <p>
+ * Polling ('wait.polling.strategy'):
+ * <ul>
+ *     <li>fixed - poll every 'wait.polling.millis'</li>
+ *     <li>backoff - start at 'wait.polling.min.millis' and double up to 'wait.polling.millis'</li>
+ *     <li>aggressive - re-check after 'wait.polling.min.millis' once, then poll every 'wait.polling.millis'</li>
+ * </ul>
+ * Every condition records how long it waited and how many polls it needed (see {@link #getMetricsSummary()}).
+ */
+public class WaitEngine implements Wait<WebDriver> {
+
+    private static final String EXPLICIT_WAIT_KEY = "explicit.wait.seconds";
+    private static final String POLLING_STRATEGY_KEY = "wait.polling.strategy";
+    private static final String POLLING_MILLIS_KEY = "wait.polling.millis";
+    private static final String POLLING_MIN_MILLIS_KEY = "wait.polling.min.millis";
+
+    private static final ThreadLocal<WaitEngine> ENGINE = new ThreadLocal<>();
+    private static final Map<String, ConditionStats> STATS = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final PollingStrategy strategy;
+    private final long pollingMillis;
+    private final long minPollingMillis;
+
+    private WaitEngine(WebDriver driver) {
+        this.driver = driver;
+        this.timeout = Duration.ofSeconds(readExplicitWaitSeconds());
+        this.strategy = PollingStrategy.fromKey(PropertiesUtils.getProperty(POLLING_STRATEGY_KEY, "fixed"));
+        this.pollingMillis = Math.max(1, PropertiesUtils.getLongProperty(POLLING_MILLIS_KEY, 500));
+        this.minPollingMillis = Math.max(1, Math.min(pollingMillis,
+                PropertiesUtils.getLongProperty(POLLING_MIN_MILLIS_KEY, 25)));
+    }
+
+    /**
+     * The engine for the current thread's driver, created on first use.
+     */
+    public static WaitEngine forCurrentThread() {
+        WebDriver driver = DriverManager.getDriver();
+        WaitEngine engine = ENGINE.get();
+        if (engine == null || engine.driver != driver) {
+            engine = new WaitEngine(driver);
+            ENGINE.set(engine);
+        }
+        return engine;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        int polls = 0;
+        RuntimeException lastIgnored = null;
+
+        while (true) {
+            polls++;
+            try {
+                V value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    record(condition, start, polls, true);
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastIgnored = e;
+            }
+
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                record(condition, start, polls, false);
+                throw new TimeoutException(String.format(
+                        "Expected condition failed: waiting for %s (tried for %d second(s) with %s polling, %d polls)",
+                        condition, timeout.getSeconds(), strategy.key, polls), lastIgnored);
+            }
+            sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1, nextInterval(polls)));
+        }
+    }
+
+    private long nextInterval(int pollsSoFar) {
+        return switch (strategy) {
+            case FIXED -> pollingMillis;
+            case BACKOFF -> Math.min(pollingMillis, minPollingMillis << Math.min(pollsSoFar - 1, 20));
+            case AGGRESSIVE -> pollsSoFar == 1 ? minPollingMillis : pollingMillis;
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+
+    private static long readExplicitWaitSeconds() {
+        String value = PropertiesUtils.getProperty(EXPLICIT_WAIT_KEY);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(
+                    "Property '" + EXPLICIT_WAIT_KEY + "' is missing or empty in testConfig.properties.");
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(
+                    "Property '" + EXPLICIT_WAIT_KEY + "' must be a valid number (seconds). Current value: " + value, e);
+        }
+    }
+
+    // ---------- Telemetry ----------
+
+    /**
+     * Also used by DomWaits, where polls are script round trips.
+     */
+    static void record(Object condition, long startNanos, int polls, boolean satisfied) {
+        LocatorProfiler.addRoundTrips(polls);
+        STATS.computeIfAbsent(describe(condition), k -> new ConditionStats())
+                .add(System.nanoTime() - startNanos, polls, satisfied);
+    }
+
+    /**
+     * Waits are aggregated by their condition description, which includes the locator.
+     */
+    private static String describe(Object condition) {
+        String text = String.valueOf(condition);
+        return text.length() > 160 ? text.substring(0, 160) + "..." : text;
+    }
+
+    public static boolean hasActivity() {
+        return !STATS.isEmpty();
+    }
+
+    /**
+     * Totals over all waits plus the conditions that spent the most time waiting.
+     */
+    public static String getMetricsSummary() {
+        long waits = STATS.values().stream().mapToLong(s -> s.count.get()).sum();
+        long polls = STATS.values().stream().mapToLong(s -> s.polls.get()).sum();
+        long timeouts = STATS.values().stream().mapToLong(s -> s.timeouts.get()).sum();
+        long totalNanos = STATS.values().stream().mapToLong(s -> s.totalNanos.get()).sum();
+
+        String top = STATS.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, ConditionStats> e) -> e.getValue().totalNanos.get())
+                        .reversed())
+                .limit(10)
+                .map(e -> String.format("  %6d ms total | %4d waits | %5.1f polls/wait | %d timeouts | %s",
+                        TimeUnit.NANOSECONDS.toMillis(e.getValue().totalNanos.get()), e.getValue().count.get(),
+                        (double) e.getValue().polls.get() / Math.max(1, e.getValue().count.get()),
+                        e.getValue().timeouts.get(), e.getKey()))
+                .collect(Collectors.joining(System.lineSeparator()));
+
+        return String.format("Explicit waits: waits=%d, totalWait=%d ms, avgWait=%d ms, avgPolls=%.1f, timeouts=%d%n%s",
+                waits, TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                waits == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / waits),
+                waits == 0 ? 0.0 : (double) polls / waits, timeouts, top);
+    }
+
+    private static final class ConditionStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong polls = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+
+        private void add(long nanos, int pollCount, boolean satisfied) {
+            count.incrementAndGet();
+            polls.addAndGet(pollCount);
+            totalNanos.addAndGet(nanos);
+            if (!satisfied) {
+                timeouts.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * How long to sleep between two checks of a condition.
+     */
+    public enum PollingStrategy {
+        FIXED("fixed"),
+        BACKOFF("backoff"),
+        AGGRESSIVE("aggressive");
+
+        private final String key;
+
+        PollingStrategy(String key) {
+            this.key = key;
+        }
+
+        public static PollingStrategy fromKey(String value) {
+            for (PollingStrategy strategy : values()) {
+                if (strategy.key.equalsIgnoreCase(value.trim())) {
+                    return strategy;
+                }
+            }
+            throw new IllegalArgumentException(
+                    "Unsupported polling strategy: " + value +
+                            ". Use one of " + Arrays.toString(Arrays.stream(values()).map(s -> s.key).toArray()) +
+                            " for '" + POLLING_STRATEGY_KEY + "' in testConfig.properties.");
+        }
+    }
+}
@@ -1,54 +1,92 @@
 package com.saucedemo.utilities.selenium.helperClasses;
 
-import com.saucedemo.utilities.config.PropertiesUtils;
 import com.saucedemo.utilities.selenium.driver.DriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-import java.time.Duration;
+import org.openqa.selenium.support.ui.Wait;
 
 public class WaitHelpers {
 
-    private static final String EXPLICIT_WAIT_KEY = "explicit.wait.seconds";
-
     private WaitHelpers() {}
 
-    private static long getExplicitWaitSeconds() {
-        String value = PropertiesUtils.getProperty(EXPLICIT_WAIT_KEY);
-        if (value == null || value.isBlank()) {
-            throw new IllegalStateException(
-                    "Property '" + EXPLICIT_WAIT_KEY + "' is missing or empty in testConfig.properties.");
-        }
-        try {
-            return Long.parseLong(value.trim());
-        } catch (NumberFormatException e) {
-            throw new IllegalStateException(
-                    "Property '" + EXPLICIT_WAIT_KEY + "' must be a valid number (seconds). Current value: " + value, e);
-        }
+    /**
+     * The current thread's reusable wait (configured once per driver, see {@link WaitEngine}).
+     */
+    private static Wait<WebDriver> getWait() {
+        return WaitEngine.forCurrentThread();
     }
 
-    private static WebDriverWait getWait() {
-        WebDriver driver = DriverManager.getDriver();
-        long timeoutSeconds = getExplicitWaitSeconds();
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+    /**
+     * With wait.mode=dom, waits in the browser (see {@link DomWaits}); returns null when the
+     * locator or page does not support it and the polling wait should be used.
+     */
+    private static DomWaits.Result waitInBrowser(By locator, DomWaits.Condition condition, String expectedText) {
+        if (!DomWaits.isEnabled()) {
+            return null;
+        }
+        DomWaits.Result result = DomWaits.await(DriverManager.getDriver(), locator, condition, expectedText);
+        return result.supported() ? result : null;
     }
 
     public static WebElement waitForVisibility(By locator) {
-        return getWait().until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return LocatorProfiler.profile(locator, "waitForVisibility", () -> visibility(locator));
     }
 
     public static WebElement waitForClickable(By locator) {
-        return getWait().until(ExpectedConditions.elementToBeClickable(locator));
+        return LocatorProfiler.profile(locator, "waitForClickable", () -> clickable(locator));
     }
 
     public static boolean waitForInvisibility(By locator) {
-        return getWait().until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return LocatorProfiler.profile(locator, "waitForInvisibility", () -> invisibility(locator));
     }
 
     public static WebElement waitForPresence(By locator) {
+        return LocatorProfiler.profile(locator, "waitForPresence", () -> presence(locator));
+    }
+
+    public static boolean waitForText(By locator, String text) {
+        return LocatorProfiler.profile(locator, "waitForText", () -> textPresent(locator, text));
+    }
+
+    // ---------- Conditions ----------
+
+    private static WebElement visibility(By locator) {
+        DomWaits.Result result = waitInBrowser(locator, DomWaits.Condition.VISIBLE, null);
+        if (result != null) {
+            return result.element();
+        }
+        return getWait().until(ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    private static WebElement clickable(By locator) {
+        DomWaits.Result result = waitInBrowser(locator, DomWaits.Condition.CLICKABLE, null);
+        if (result != null) {
+            return result.element();
+        }
+        return getWait().until(ExpectedConditions.elementToBeClickable(locator));
+    }
+
+    private static boolean invisibility(By locator) {
+        if (waitInBrowser(locator, DomWaits.Condition.GONE, null) != null) {
+            return true;
+        }
+        return getWait().until(ExpectedConditions.invisibilityOfElementLocated(locator));
+    }
+
+    private static WebElement presence(By locator) {
+        DomWaits.Result result = waitInBrowser(locator, DomWaits.Condition.PRESENT, null);
+        if (result != null) {
+            return result.element();
+        }
         return getWait().until(ExpectedConditions.presenceOfElementLocated(locator));
     }
+
+    private static boolean textPresent(By locator, String text) {
+        if (waitInBrowser(locator, DomWaits.Condition.TEXT, text) != null) {
+            return true;
+        }
+        return getWait().until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+    }
 }
@@ -0,0 +1,271 @@
+package com.saucedemo.utilities.selenium.network;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Reproducible slow-network conditions, selected with 'latency.profile'.
+ * A profile is a list of rules in 'latency.&lt;profile&gt;.rules', first match wins:
+ * <pre>
+ *   &lt;path glob&gt;:&lt;delay ms&gt;[~&lt;jitter ms&gt;][@&lt;bandwidth kbit/s&gt;], ...
+ *   e.g. /inventory.html:800~200, /static/*.js:150@1600, *:50
+ * </pre>
+ * Jitter is derived from 'latency.seed', the path and how often the path was requested in the same
+ * {@link Session} (one per browser session, restarted for every test), so a test sees the same delays
+ * every run, whatever runs next to it. Bandwidth adds body size / bandwidth to the delay.
+ * With base.url=local the local server applies the profile (all browsers, sessions told apart by a cookie);
+ * otherwise each session gets it as a network filter (Chrome/Edge). 'latency.users' limits it to requests
+ * of those users (local server only, which sees the session cookie), e.g. to model performance_glitch_user.
+ */
+public class LatencyProfile {
+
+    private static final Logger log = LogsUtils.getLogger(LatencyProfile.class);
+
+    private static final String PROFILE_KEY = "latency.profile";
+    private static final String SEED_KEY = "latency.seed";
+    private static final String USERS_KEY = "latency.users";
+    private static final Pattern RULE = Pattern.compile("^(.+):(\\d+)(?:~(\\d+))?(?:@(\\d+))?$");
+
+    private static volatile LatencyProfile instance;
+
+    private final String name;
+    private final List<Rule> rules;
+    private final long seed;
+    private final Set<String> users;
+    private final Map<WebDriver, Session> sessionsByDriver = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // ---------- Metrics ----------
+    private final Map<String, AtomicLong> delayedPerRule = new ConcurrentHashMap<>();
+    private final AtomicLong delayedRequests = new AtomicLong();
+    private final AtomicLong totalDelayMillis = new AtomicLong();
+
+    /**
+     * One rule: requests whose path matches get {@code delayMillis} plus up to {@code jitterMillis},
+     * plus transfer time at {@code kbps} (0 = unlimited).
+     */
+    record Rule(String glob, Pattern pattern, long delayMillis, long jitterMillis, long kbps) {
+    }
+
+    private LatencyProfile(String name, List<Rule> rules, long seed, Set<String> users) {
+        this.name = name;
+        this.rules = rules;
+        this.seed = seed;
+        this.users = users;
+    }
+
+    /**
+     * The configured profile, or null when latency.profile is none.
+     */
+    public static LatencyProfile current() {
+        String profile = PropertiesUtils.getProperty(PROFILE_KEY, "none").trim();
+        if (profile.isEmpty() || "none".equalsIgnoreCase(profile)) {
+            return null;
+        }
+        LatencyProfile current = instance;
+        if (current == null || !current.name.equals(profile)) {
+            synchronized (LatencyProfile.class) {
+                current = instance;
+                if (current == null || !current.name.equals(profile)) {
+                    current = load(profile);
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static LatencyProfile load(String profile) {
+        String rulesKey = "latency." + profile + ".rules";
+        String definition = PropertiesUtils.getProperty(rulesKey, "").trim();
+        if (definition.isEmpty()) {
+            throw new IllegalStateException("latency.profile=" + profile + " but '" + rulesKey +
+                    "' is not defined in testConfig.properties");
+        }
+        List<Rule> rules = new ArrayList<>();
+        for (String part : definition.split(",")) {
+            Matcher matcher = RULE.matcher(part.trim());
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Invalid latency rule '" + part.trim() + "' in '" + rulesKey +
+                        "' (expected <path glob>:<delay ms>[~<jitter ms>][@<kbit/s>])");
+            }
+            String glob = matcher.group(1).trim();
+            rules.add(new Rule(glob, globToPattern(glob), Long.parseLong(matcher.group(2)),
+                    matcher.group(3) == null ? 0 : Long.parseLong(matcher.group(3)),
+                    matcher.group(4) == null ? 0 : Long.parseLong(matcher.group(4))));
+        }
+        Set<String> users = Arrays.stream(PropertiesUtils.getProperty(USERS_KEY, "").split(","))
+                .map(String::trim)
+                .filter(user -> !user.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        log.info("Latency profile '{}' active with {} rule(s){}", profile, rules.size(),
+                users.isEmpty() ? "" : " for users " + users);
+        return new LatencyProfile(profile, List.copyOf(rules), PropertiesUtils.getLongProperty(SEED_KEY, 42), users);
+    }
+
+    private static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (String literal : glob.split("\\*", -1)) {
+            if (!regex.isEmpty()) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(literal));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * True if requests of this user (null = unknown) are subject to the profile.
+     */
+    public boolean appliesToUser(String username) {
+        return users.isEmpty() || (username != null && users.contains(username));
+    }
+
+    /**
+     * Starts the request counts of a new browser session.
+     */
+    public Session newSession() {
+        return new Session();
+    }
+
+    /**
+     * Registers the filter session of a new driver, so {@link #startTest(WebDriver)} can restart it.
+     */
+    void attach(WebDriver driver, Session session) {
+        sessionsByDriver.put(driver, session);
+    }
+
+    /**
+     * Restarts the request counts of the driver's session (a pooled session may have served other tests),
+     * so jitter depends only on the test's own requests. Does nothing without a profile.
+     */
+    public static void startTest(WebDriver driver) {
+        LatencyProfile current = instance;
+        Session session = current == null ? null : NetworkFilters.forSession(current.sessionsByDriver, driver);
+        if (session != null) {
+            session.requestCounts.clear();
+        }
+    }
+
+    /**
+     * Delay in milliseconds for a response to the given path with the given body size in this session,
+     * and records it in the metrics. 0 if no rule matches.
+     */
+    private long delayFor(Session session, String path, long bodyBytes) {
+        for (Rule rule : rules) {
+            if (!rule.pattern().matcher(path).matches()) {
+                continue;
+            }
+            long occurrence = session.requestCounts.computeIfAbsent(path, key -> new AtomicLong()).incrementAndGet();
+            long delay = rule.delayMillis() + jitter(rule, path, occurrence);
+            if (rule.kbps() > 0) {
+                delay += bodyBytes * 8 / rule.kbps();
+            }
+            delayedRequests.incrementAndGet();
+            totalDelayMillis.addAndGet(delay);
+            delayedPerRule.computeIfAbsent(rule.glob(), key -> new AtomicLong()).incrementAndGet();
+            return delay;
+        }
+        return 0;
+    }
+
+    private long jitter(Rule rule, String path, long occurrence) {
+        if (rule.jitterMillis() == 0) {
+            return 0;
+        }
+        long hash = seed;
+        hash = 31 * hash + path.hashCode();
+        hash = 31 * hash + occurrence;
+        hash ^= (hash >>> 33);
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= (hash >>> 33);
+        return Math.floorMod(hash, rule.jitterMillis() + 1);
+    }
+
+    /**
+     * Sleeps for the given delay; an interrupt ends the delay early.
+     */
+    public static void pause(long delayMillis) {
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Request counts of one browser session; also the session's network filter.
+     */
+    public final class Session implements Filter {
+
+        private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+
+        private Session() {
+        }
+
+        /**
+         * Delay in milliseconds for this session's response to the given path with the given body size.
+         */
+        public long delayFor(String path, long bodyBytes) {
+            return LatencyProfile.this.delayFor(this, path, bodyBytes);
+        }
+
+        @Override
+        public HttpHandler apply(HttpHandler next) {
+            return request -> {
+                HttpResponse response = next.execute(request);
+                String path = URI.create(request.getUri()).getPath();
+                long bodyBytes = 0;
+                if (rules.stream().anyMatch(rule -> rule.kbps() > 0)) {
+                    byte[] body = Contents.bytes(response.getContent());
+                    response.setContent(Contents.bytes(body));
+                    bodyBytes = body.length;
+                }
+                pause(delayFor(path == null || path.isEmpty() ? "/" : path, bodyBytes));
+                return response;
+            };
+        }
+    }
+
+    public static boolean hasActivity() {
+        LatencyProfile current = instance;
+        return current != null && current.delayedRequests.get() > 0;
+    }
+
+    public static String getMetricsSummary() {
+        LatencyProfile current = instance;
+        if (current == null) {
+            return "";
+        }
+        StringBuilder summary = new StringBuilder(String.format(
+                "Latency profile '%s': delayedRequests=%d, totalInjected=%d ms",
+                current.name, current.delayedRequests.get(), current.totalDelayMillis.get()));
+        new TreeMap<>(current.delayedPerRule).forEach((glob, count) ->
+                summary.append(String.format("%n  %s -> %d request(s)", glob, count.get())));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,202 @@
+package com.saucedemo.utilities.selenium.network;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records where a link click would navigate to, without loading the external page
+ * (social.link.mode=capture, Chrome/Edge). While armed:
+ * <ul>
+ *     <li>a navigation of the tab to another host is answered with 204 No Content, so the browser
+ *     stays on the app page;</li>
+ *     <li>a new window is closed as soon as DevTools reports its URL, without waiting for it to load.</li>
+ * </ul>
+ * One instance per session, installed by {@link NetworkFilters}; pages look it up with {@link #forDriver}.
+ * If the session has no other network filters, request interception (Fetch) is switched on only for the
+ * duration of {@link #capture}; otherwise the capture rides along in the session's filter chain.
+ */
+public class NavigationCapture implements Filter {
+
+    private static final Logger log = LogsUtils.getLogger(NavigationCapture.class);
+
+    private static final Map<WebDriver, NavigationCapture> BY_DRIVER = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Set<String> knownTargets = ConcurrentHashMap.newKeySet();
+    private volatile DevTools devTools;
+    private volatile boolean inSharedChain;
+    private volatile Armed armed;
+
+    /**
+     * An armed capture: requests/windows for hosts other than {@code appHost} complete {@code result}.
+     */
+    private record Armed(String appHost, CompletableFuture<Captured> result) {
+    }
+
+    /**
+     * The captured URL and, for a new window, its DevTools target id (null for same-tab navigation).
+     */
+    private record Captured(String url, String targetId) {
+    }
+
+    NavigationCapture() {
+    }
+
+    /**
+     * True when social.link.mode=capture, i.e. sessions need a capture filter.
+     */
+    static boolean isEnabled() {
+        return "capture".equalsIgnoreCase(PropertiesUtils.getProperty("social.link.mode", "open").trim());
+    }
+
+    /**
+     * The capture installed on this driver, or null (capture off, or the browser has no DevTools).
+     * Decorated drivers (e.g. a driver.mode=context lease) are looked up by the driver they wrap.
+     */
+    public static NavigationCapture forDriver(WebDriver driver) {
+        return NetworkFilters.forSession(BY_DRIVER, driver);
+    }
+
+    /**
+     * Registers for new-window events on the session. {@code inSharedChain} is true when this capture is
+     * part of the session's permanent filter chain; otherwise {@link #capture} intercepts requests itself.
+     */
+    void attach(WebDriver driver, boolean inSharedChain) {
+        DevTools tools = ((HasDevTools) driver).getDevTools();
+        tools.createSessionIfThereIsNotOne();
+        tools.addListener(new Event<>("Target.targetCreated", NavigationCapture::readTargetInfo), this::onTarget);
+        tools.addListener(new Event<>("Target.targetInfoChanged", NavigationCapture::readTargetInfo), this::onTarget);
+        tools.send(new Command<Void>("Target.setDiscoverTargets", Map.of("discover", true)));
+        this.devTools = tools;
+        this.inSharedChain = inSharedChain;
+        BY_DRIVER.put(driver, this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readTargetInfo(JsonInput input) {
+        Map<String, Object> params = input.read(Json.MAP_TYPE);
+        Object info = params.get("targetInfo");
+        return info instanceof Map ? (Map<String, Object>) info : Map.of();
+    }
+
+    private void onTarget(Map<String, Object> info) {
+        Object targetId = info.get("targetId");
+        if (!"page".equals(info.get("type")) || targetId == null) {
+            return;
+        }
+        Armed current = armed;
+        if (current == null) {
+            // Windows that existed before arming are not the link's target
+            knownTargets.add(targetId.toString());
+            return;
+        }
+        Object url = info.get("url");
+        if (!knownTargets.contains(targetId.toString()) && url != null && isExternal(url.toString(), current.appHost())) {
+            current.result().complete(new Captured(url.toString(), targetId.toString()));
+        }
+    }
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return request -> {
+            Armed current = armed;
+            if (current != null && isDocumentRequest(request.getHeader("Accept"), request.getHeader("Sec-Fetch-Dest"))
+                    && isExternal(request.getUri(), current.appHost())) {
+                current.result().complete(new Captured(request.getUri(), null));
+                return new HttpResponse().setStatus(204);
+            }
+            return next.execute(request);
+        };
+    }
+
+    /**
+     * Runs the trigger (a click) and returns the URL it navigates to, for a new window or the same tab.
+     * The external page is not loaded and the driver stays on the app window.
+     *
+     * @throws TimeoutException if no navigation away from the app starts within the timeout
+     */
+    public String capture(Runnable trigger, String appUrl, Duration timeout) {
+        String appHost = URI.create(appUrl).getHost();
+        CompletableFuture<Captured> result = new CompletableFuture<>();
+        boolean ownInterception = !inSharedChain;
+        armed = new Armed(appHost, result);
+        try {
+            if (ownInterception) {
+                devTools.getDomains().network().interceptTrafficWith(this);
+            }
+            trigger.run();
+            Captured captured = result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (captured.targetId() != null) {
+                closeTarget(captured.targetId());
+            }
+            return captured.url();
+        } catch (java.util.concurrent.TimeoutException e) {
+            throw new TimeoutException("No navigation away from " + appHost + " within " + timeout.toSeconds() + "s");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while capturing navigation", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Navigation capture failed", e.getCause());
+        } finally {
+            armed = null;
+            if (ownInterception) {
+                stopInterception();
+            }
+        }
+    }
+
+    private void stopInterception() {
+        try {
+            // resetNetworkFilter() would keep every request paused and continued; disable() turns Fetch off
+            devTools.getDomains().network().disable();
+        } catch (RuntimeException e) {
+            log.warn("Could not stop request interception after a capture: {}", e.getMessage());
+        }
+    }
+
+    private void closeTarget(String targetId) {
+        try {
+            devTools.send(new Command<Void>("Target.closeTarget", Map.of("targetId", targetId)));
+        } catch (RuntimeException e) {
+            log.warn("Could not close captured window {}: {}", targetId, e.getMessage());
+        }
+    }
+
+    private static boolean isDocumentRequest(String accept, String fetchDest) {
+        return "document".equalsIgnoreCase(fetchDest) || (accept != null && accept.contains("text/html"));
+    }
+
+    private static boolean isExternal(String url, String appHost) {
+        if (!url.startsWith("http://") && !url.startsWith("https://")) {
+            return false;
+        }
+        try {
+            String host = URI.create(url).getHost();
+            return host != null && !host.equalsIgnoreCase(appHost);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.saucedemo.utilities.selenium.network;
+
+import com.saucedemo.utilities.logging.LogsUtils;
+import com.saucedemo.utilities.server.LocalSauceDemoServer;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.Filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Installs the browser traffic filters ({@link NavigationCapture}, {@link RequestBlocker}, {@link LatencyProfile},
+ * {@link TrafficCache}) on a new session as one chain, via DevTools request interception. Requests pass
+ * the filters in list order, so blocked requests skip the rest and injected latency also applies to cache hits.
+ * A navigation capture alone does not keep interception on; it switches it on only while armed.
+ * Interception needs Chrome/Edge (CDP); other browsers run without filters, with a warning.
+ * It covers the session's first tab, which is the one tests use.
+ */
+public class NetworkFilters {
+
+    private static final Logger log = LogsUtils.getLogger(NetworkFilters.class);
+    private static final AtomicBoolean unsupportedLogged = new AtomicBoolean();
+
+    private NetworkFilters() {}
+
+    /**
+     * Attaches the enabled filters to the driver. Returns the driver to use from now on, which is
+     * an augmented copy for remote sessions.
+     */
+    public static WebDriver install(WebDriver driver) {
+        List<Filter> filters = new ArrayList<>();
+        NavigationCapture capture = NavigationCapture.isEnabled() ? new NavigationCapture() : null;
+        RequestBlocker blocker = RequestBlocker.isEnabled() ? new RequestBlocker() : null;
+        if (blocker != null) {
+            filters.add(blocker);
+        }
+        LatencyProfile latency = LatencyProfile.current();
+        // The local server applies the profile itself (for every browser); don't delay twice
+        LatencyProfile.Session latencySession = latency != null && LocalSauceDemoServer.getIfStarted() == null
+                ? latency.newSession() : null;
+        if (latencySession != null) {
+            filters.add(latencySession);
+        }
+        TrafficCache cache = TrafficCache.getIfEnabled();
+        if (cache != null) {
+            filters.add(cache);
+        }
+        if (filters.isEmpty() && capture == null) {
+            return driver;
+        }
+
+        WebDriver target = driver;
+        if (!(target instanceof HasDevTools) && target instanceof RemoteWebDriver) {
+            target = new Augmenter().augment(target);
+        }
+        if (!(target instanceof HasDevTools)) {
+            if (unsupportedLogged.compareAndSet(false, true)) {
+                log.warn("Network filters need a Chrome/Edge (DevTools) session; {} runs without them.",
+                        driver.getClass().getSimpleName());
+            }
+            return driver;
+        }
+
+        boolean permanentChain = !filters.isEmpty();
+        if (permanentChain && capture != null) {
+            // Interception is on anyway; the capture passes requests through unless armed
+            filters.add(0, capture);
+        }
+        try {
+            if (permanentChain) {
+                Filter chain = filters.get(0);
+                for (int i = 1; i < filters.size(); i++) {
+                    chain = chain.andThen(filters.get(i));
+                }
+                // Lives as long as the session's DevTools connection
+                new NetworkInterceptor(target, chain);
+            }
+            if (capture != null) {
+                capture.attach(target, permanentChain);
+            }
+            if (blocker != null) {
+                blocker.attach(target);
+            }
+            if (latencySession != null) {
+                latency.attach(target, latencySession);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not install network filters: {}", e.getMessage());
+            return driver;
+        }
+        return target;
+    }
+
+    /**
+     * The filter registered for this driver's session in {@code registry}, or null. Filters are registered
+     * on the raw driver, so decorated drivers (e.g. a driver.mode=context lease) are looked up by the driver they wrap.
+     */
+    static <T> T forSession(Map<WebDriver, T> registry, WebDriver driver) {
+        WebDriver current = driver;
+        while (current != null) {
+            T filter = registry.get(current);
+            if (filter != null || !(current instanceof WrapsDriver wrapper)) {
+                return filter;
+            }
+            WebDriver wrapped = wrapper.getWrappedDriver();
+            current = wrapped == current ? null : wrapped;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,296 @@
+package com.saucedemo.utilities.selenium.network;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Blocks requests the functional tests don't need (product images, fonts, third-party beacons),
+ * per test, through the session's DevTools interception (Chrome/Edge, 'network.block.enabled').
+ * Block lists are named URL patterns, 'network.block.list.&lt;name&gt;' (regex, searched in the URL).
+ * A test blocks the union of:
+ * <ul>
+ *     <li>'network.block.lists' - from -D, else the suite XML parameter of the same name, else the config file</li>
+ *     <li>'network.block.group.&lt;group&gt;' - for each TestNG group of the test</li>
+ * </ul>
+ * Blocked requests get an empty 204. Bytes saved are counted from the size of the same URL when it was
+ * last loaded unblocked: its Content-Length, or the body length when the header is missing. Sizes are kept
+ * in 'resource-sizes.properties' under traffic.cache.dir, so a run that only ever blocks a resource still
+ * reports it once any earlier run has loaded it.
+ */
+public class RequestBlocker implements Filter {
+
+    private static final Logger log = LogsUtils.getLogger(RequestBlocker.class);
+
+    private static final String ENABLED_KEY = "network.block.enabled";
+    private static final String LISTS_KEY = "network.block.lists";
+    private static final String LIST_PREFIX = "network.block.list.";
+    private static final String GROUP_PREFIX = "network.block.group.";
+    private static final String SIZES_FILE = "resource-sizes.properties";
+
+    private static final Map<WebDriver, RequestBlocker> BY_DRIVER = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, Pattern> LIST_PATTERNS = new ConcurrentHashMap<>();
+    // Sizes of resources seen unblocked (this run or earlier ones), used to report bytes saved when they are blocked
+    private static final Map<String, Long> KNOWN_SIZES = loadKnownSizes();
+    private static final AtomicBoolean sizesChanged = new AtomicBoolean();
+    private static final ThreadLocal<TestStats> CURRENT_TEST = new ThreadLocal<>();
+
+    // ---------- Metrics ----------
+    private static final AtomicLong testsWithBlocking = new AtomicLong();
+    private static final AtomicLong totalBlocked = new AtomicLong();
+    private static final AtomicLong totalBytesSaved = new AtomicLong();
+
+    private volatile List<Pattern> activePatterns = List.of();
+    private volatile TestStats stats;
+
+    /**
+     * Counts for one test. Only the session's interception thread writes, the test thread reads at the end.
+     */
+    private static final class TestStats {
+        private final RequestBlocker owner;
+        private final Set<String> lists;
+        private final AtomicLong blocked = new AtomicLong();
+        private final AtomicLong bytesSaved = new AtomicLong();
+        private final AtomicLong unknownSize = new AtomicLong();
+        private final Map<String, AtomicLong> blockedPerHost = new ConcurrentHashMap<>();
+
+        private TestStats(RequestBlocker owner, Set<String> lists) {
+            this.owner = owner;
+            this.lists = lists;
+        }
+    }
+
+    RequestBlocker() {
+    }
+
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(PropertiesUtils.getProperty(ENABLED_KEY, "false").trim());
+    }
+
+    /**
+     * Registers the blocker of a new session; called once the interceptor is in place.
+     */
+    void attach(WebDriver driver) {
+        BY_DRIVER.put(driver, this);
+    }
+
+    // ---------- Per-test activation ----------
+
+    /**
+     * Activates the block lists for the test about to run on this driver (see class comment).
+     * {@code suiteLists} is the suite XML parameter 'network.block.lists', or null.
+     * Does nothing when blocking is disabled or the browser has no DevTools.
+     */
+    public static void activate(WebDriver driver, String suiteLists, String[] groups) {
+        CURRENT_TEST.remove();
+        RequestBlocker blocker = NetworkFilters.forSession(BY_DRIVER, driver);
+        if (blocker == null) {
+            return;
+        }
+        Set<String> lists = new LinkedHashSet<>(split(configuredLists(suiteLists)));
+        for (String group : groups) {
+            lists.addAll(split(PropertiesUtils.getProperty(GROUP_PREFIX + group, "")));
+        }
+        TestStats testStats = new TestStats(blocker, lists);
+        blocker.activePatterns = lists.stream().map(RequestBlocker::listPattern).toList();
+        blocker.stats = testStats;
+        CURRENT_TEST.set(testStats);
+    }
+
+    private static String configuredLists(String suiteLists) {
+        String override = System.getProperty(LISTS_KEY);
+        if (override != null) {
+            return override;
+        }
+        if (suiteLists != null) {
+            return suiteLists;
+        }
+        return PropertiesUtils.getProperty(LISTS_KEY, "");
+    }
+
+    private static List<String> split(String lists) {
+        return Arrays.stream(lists.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+
+    private static Pattern listPattern(String name) {
+        return LIST_PATTERNS.computeIfAbsent(name, key -> {
+            String regex = PropertiesUtils.getProperty(LIST_PREFIX + key, "").trim();
+            if (regex.isEmpty()) {
+                throw new IllegalStateException("Block list '" + key + "' is used but '" + LIST_PREFIX + key +
+                        "' is not defined in testConfig.properties");
+            }
+            return Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+        });
+    }
+
+    /**
+     * Ends the current test's blocking and returns its report, or an empty string if nothing was blocked.
+     */
+    public static String finishTest() {
+        TestStats testStats = CURRENT_TEST.get();
+        CURRENT_TEST.remove();
+        if (testStats != null && testStats.owner.stats == testStats) {
+            // A pooled session may run other tests next; they activate their own lists
+            testStats.owner.activePatterns = List.of();
+            testStats.owner.stats = null;
+        }
+        if (testStats == null || testStats.blocked.get() == 0) {
+            return "";
+        }
+        testsWithBlocking.incrementAndGet();
+        totalBlocked.addAndGet(testStats.blocked.get());
+        totalBytesSaved.addAndGet(testStats.bytesSaved.get());
+
+        StringBuilder report = new StringBuilder(String.format(
+                "Blocked requests (lists %s): blocked=%d, bytesSaved=%d KB, blockedWithUnknownSize=%d",
+                testStats.lists, testStats.blocked.get(), testStats.bytesSaved.get() / 1024, testStats.unknownSize.get()));
+        testStats.blockedPerHost.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparingLong(AtomicLong::get).reversed()))
+                .forEach(entry -> report.append(String.format("%n  %s -> %d", entry.getKey(), entry.getValue().get())));
+        return report.toString();
+    }
+
+    // ---------- Interception ----------
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return request -> {
+            String url = request.getUri();
+            List<Pattern> patterns = activePatterns;
+            TestStats testStats = stats;
+            if (testStats != null && patterns.stream().anyMatch(pattern -> pattern.matcher(url).find())) {
+                testStats.blocked.incrementAndGet();
+                testStats.blockedPerHost.computeIfAbsent(host(url), key -> new AtomicLong()).incrementAndGet();
+                Long size = KNOWN_SIZES.get(url);
+                if (size == null) {
+                    testStats.unknownSize.incrementAndGet();
+                } else {
+                    testStats.bytesSaved.addAndGet(size);
+                }
+                return new HttpResponse().setStatus(204);
+            }
+
+            HttpResponse response = next.execute(request);
+            learnSize(url, response);
+            return response;
+        };
+    }
+
+    private static void learnSize(String url, HttpResponse response) {
+        if (response.getStatus() != 200 || KNOWN_SIZES.containsKey(url)) {
+            return;
+        }
+        long size = -1;
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength != null) {
+            try {
+                size = Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring Content-Length '{}' of {}", contentLength, url);
+            }
+        }
+        if (size < 0) {
+            // Chunked or compressed responses often have no Content-Length; measure the body once instead
+            byte[] body = Contents.bytes(response.getContent());
+            response.setContent(Contents.bytes(body));
+            size = body.length;
+        }
+        KNOWN_SIZES.put(url, size);
+        sizesChanged.set(true);
+    }
+
+    // ---------- Size persistence ----------
+
+    private static Map<String, Long> loadKnownSizes() {
+        Map<String, Long> sizes = new ConcurrentHashMap<>();
+        Path file = TrafficCache.configuredDir().resolve(SIZES_FILE);
+        if (!Files.isRegularFile(file)) {
+            return sizes;
+        }
+        Properties stored = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            stored.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable {}: {}", file, e.getMessage());
+            return sizes;
+        }
+        stored.forEach((url, size) -> {
+            try {
+                sizes.put(url.toString(), Long.parseLong(size.toString().trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring stored size '{}' of {}", size, url);
+            }
+        });
+        return sizes;
+    }
+
+    private static void saveKnownSizes() {
+        if (!sizesChanged.getAndSet(false)) {
+            return;
+        }
+        Path file = TrafficCache.configuredDir().resolve(SIZES_FILE);
+        Properties stored = new Properties();
+        KNOWN_SIZES.forEach((url, size) -> stored.setProperty(url, Long.toString(size)));
+        try {
+            Files.createDirectories(file.getParent());
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            stored.store(content, "Resource sizes learned by RequestBlocker (url=bytes)");
+            TrafficCache.writeAtomically(file, content.toByteArray());
+        } catch (IOException e) {
+            log.warn("Could not save resource sizes to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String host(String url) {
+        int start = url.indexOf("://");
+        if (start < 0) {
+            return url;
+        }
+        int end = url.indexOf('/', start + 3);
+        return end < 0 ? url.substring(start + 3) : url.substring(start + 3, end);
+    }
+
+    public static boolean hasActivity() {
+        return totalBlocked.get() > 0;
+    }
+
+    /**
+     * Saves the resource sizes learned in this run and returns the metrics summary; empty if nothing was blocked.
+     */
+    public static String shutdown() {
+        saveKnownSizes();
+        return hasActivity() ? getMetricsSummary() : "";
+    }
+
+    public static String getMetricsSummary() {
+        return String.format("Request blocking: testsWithBlocking=%d, blocked=%d, bytesSaved=%d KB",
+                testsWithBlocking.get(), totalBlocked.get(), totalBytesSaved.get() / 1024);
+    }
+}
@@ -0,0 +1,275 @@
+package com.saucedemo.utilities.selenium.network;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Record/replay cache for static assets (JS, CSS, fonts, images) fetched by the browser.
+ * Responses are stored on disk under 'traffic.cache.dir': bodies by SHA-256 of their content
+ * (blobs/), so identical files are stored once, and one small JSON entry per URL (entries/).
+ * Modes ('traffic.cache.mode'):
+ * <ul>
+ *     <li>record - serve cached responses, fetch and store the rest</li>
+ *     <li>replay - serve cached responses, fetch the rest from the network without storing</li>
+ *     <li>strict - serve only cached responses; a miss is answered with 504 and reported</li>
+ * </ul>
+ * Only GET requests matching 'traffic.cache.patterns' with a 200 response are cached; documents
+ * and XHR stay live. Misses are listed in traffic-cache-misses.txt under performance.report.dir.
+ */
+public class TrafficCache implements Filter {
+
+    private static final Logger log = LogsUtils.getLogger(TrafficCache.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String MODE_KEY = "traffic.cache.mode";
+    private static final String DIR_KEY = "traffic.cache.dir";
+    private static final String PATTERNS_KEY = "traffic.cache.patterns";
+    private static final String REPORT_DIR_KEY = "performance.report.dir";
+    private static final String DEFAULT_PATTERNS = "\\.(js|css|woff2?|ttf|otf|png|jpe?g|gif|svg|webp|ico)(\\?.*)?$";
+
+    // Headers that describe the transfer, not the (already decoded) body
+    private static final Set<String> DROPPED_HEADERS = Set.of(
+            "content-length", "content-encoding", "transfer-encoding", "connection", "set-cookie", "date", "age");
+
+    private static volatile TrafficCache instance;
+
+    private final Mode mode;
+    private final Pattern cacheable;
+    private final Path blobDir;
+    private final Path entryDir;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> missedUrls = ConcurrentHashMap.newKeySet();
+
+    // ---------- Metrics ----------
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong bytesFromCache = new AtomicLong();
+
+    enum Mode { OFF, RECORD, REPLAY, STRICT }
+
+    /**
+     * One cached response: what the browser gets back besides the body.
+     */
+    record Entry(String url, int status, Map<String, String> headers, String bodySha256) {
+    }
+
+    private TrafficCache(Mode mode) {
+        this.mode = mode;
+        this.cacheable = Pattern.compile(PropertiesUtils.getProperty(PATTERNS_KEY, DEFAULT_PATTERNS).trim(),
+                Pattern.CASE_INSENSITIVE);
+        Path root = configuredDir();
+        this.blobDir = root.resolve("blobs");
+        this.entryDir = root.resolve("entries");
+        try {
+            Files.createDirectories(blobDir);
+            Files.createDirectories(entryDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create traffic.cache.dir " + root.toAbsolutePath(), e);
+        }
+        log.info("Traffic cache in {} mode at {}", mode.name().toLowerCase(), root.toAbsolutePath());
+    }
+
+    /**
+     * The 'traffic.cache.dir' root; other network filters keep their small state files there too.
+     */
+    static Path configuredDir() {
+        return Paths.get(PropertiesUtils.getProperty(DIR_KEY, "test_outputs/traffic-cache").trim());
+    }
+
+    static Mode configuredMode() {
+        String value = PropertiesUtils.getProperty(MODE_KEY, "off").trim().toUpperCase();
+        try {
+            return Mode.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unsupported traffic.cache.mode in testConfig.properties: " + value +
+                    " (use off, record, replay or strict)");
+        }
+    }
+
+    /**
+     * The shared cache, or null when traffic.cache.mode=off.
+     */
+    static TrafficCache getIfEnabled() {
+        Mode mode = configuredMode();
+        if (mode == Mode.OFF) {
+            return null;
+        }
+        TrafficCache cache = instance;
+        if (cache == null) {
+            synchronized (TrafficCache.class) {
+                cache = instance;
+                if (cache == null) {
+                    cache = new TrafficCache(mode);
+                    instance = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return request -> {
+            if (request.getMethod() != HttpMethod.GET || !cacheable.matcher(request.getUri()).find()) {
+                return next.execute(request);
+            }
+            String url = request.getUri();
+            Optional<HttpResponse> cached = lookup(url);
+            if (cached.isPresent()) {
+                hits.incrementAndGet();
+                return cached.get();
+            }
+
+            misses.incrementAndGet();
+            missedUrls.add(url);
+            if (mode == Mode.STRICT) {
+                return new HttpResponse().setStatus(504)
+                        .setHeader("Content-Type", "text/plain; charset=utf-8")
+                        .setContent(Contents.utf8String("Not in traffic cache (strict replay): " + url));
+            }
+            HttpResponse response = next.execute(request);
+            if (mode == Mode.RECORD && response.getStatus() == 200) {
+                byte[] body = Contents.bytes(response.getContent());
+                store(url, response, body);
+                response.setContent(Contents.bytes(body));
+            }
+            return response;
+        };
+    }
+
+    private Optional<HttpResponse> lookup(String url) {
+        Entry entry = entries.computeIfAbsent(url, this::readEntry);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        try {
+            byte[] body = Files.readAllBytes(blobDir.resolve(entry.bodySha256()));
+            HttpResponse response = new HttpResponse().setStatus(entry.status());
+            entry.headers().forEach(response::setHeader);
+            response.setContent(Contents.bytes(body));
+            bytesFromCache.addAndGet(body.length);
+            return Optional.of(response);
+        } catch (IOException e) {
+            // Blob deleted or unreadable: treat as a miss and let recording repair it
+            entries.remove(url);
+            return Optional.empty();
+        }
+    }
+
+    private Entry readEntry(String url) {
+        Path file = entryDir.resolve(sha256(url.getBytes(StandardCharsets.UTF_8)) + ".json");
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(file.toFile(), Entry.class);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable traffic cache entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String url, HttpResponse response, byte[] body) {
+        String bodySha256 = sha256(body);
+        Map<String, String> headers = new LinkedHashMap<>();
+        response.forEachHeader((name, value) -> {
+            if (!DROPPED_HEADERS.contains(name.toLowerCase())) {
+                headers.putIfAbsent(name, value);
+            }
+        });
+        Entry entry = new Entry(url, response.getStatus(), headers, bodySha256);
+        try {
+            Path blob = blobDir.resolve(bodySha256);
+            if (!Files.exists(blob)) {
+                writeAtomically(blob, body);
+            }
+            writeAtomically(entryDir.resolve(sha256(url.getBytes(StandardCharsets.UTF_8)) + ".json"),
+                    OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(entry));
+            entries.put(url, entry);
+            recorded.incrementAndGet();
+        } catch (IOException e) {
+            log.warn("Could not record {} in the traffic cache: {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * Parallel sessions may record the same file; write to a temp file and move it into place.
+     */
+    static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        Files.write(temp, content);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // ---------- Reporting ----------
+
+    /**
+     * Writes the miss report and returns the metrics summary; empty if the cache was not used.
+     */
+    public static String shutdown() {
+        TrafficCache cache = instance;
+        if (cache == null) {
+            return "";
+        }
+        cache.writeMissReport();
+        return cache.getMetricsSummary();
+    }
+
+    private void writeMissReport() {
+        Path reportDir = Paths.get(PropertiesUtils.getProperty(REPORT_DIR_KEY, "test_outputs/performance").trim());
+        List<String> lines = new ArrayList<>();
+        lines.add("# Traffic cache misses (mode=" + mode.name().toLowerCase() + ", " + missedUrls.size() + " URLs)");
+        missedUrls.stream().sorted().forEach(lines::add);
+        try {
+            Files.createDirectories(reportDir);
+            Files.write(reportDir.resolve("traffic-cache-misses.txt"), lines);
+        } catch (IOException e) {
+            log.warn("Could not write traffic cache miss report: {}", e.getMessage());
+        }
+    }
+
+    public String getMetricsSummary() {
+        long lookups = hits.get() + misses.get();
+        return String.format("Traffic cache (%s): lookups=%d, hits=%d (%.1f%%), misses=%d (distinct URLs=%d), " +
+                        "recorded=%d, servedFromDisk=%d KB",
+                mode.name().toLowerCase(), lookups, hits.get(), lookups == 0 ? 0.0 : 100.0 * hits.get() / lookups,
+                misses.get(), missedUrls.size(), recorded.get(), bytesFromCache.get() / 1024);
+    }
+}
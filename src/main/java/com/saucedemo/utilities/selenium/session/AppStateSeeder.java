@@ -0,0 +1,119 @@
+package com.saucedemo.utilities.selenium.session;
+
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes SauceDemo application state straight into the browser so a test can
+ * declare its precondition and reach the target page with a single navigation.
+ *
+ * <pre>
+ * AppStateSeeder.forUser("standard_user")
+ *         .withCartItems("sauce-labs-backpack", "sauce-labs-bike-light")
+ *         .withCheckoutInfo("John", "Doe", "12345")
+ *         .seed(driver);
+ * stepTwoPage.openDirect("checkout-step-two.html");
+ * </pre>
+ *
+ * SauceDemo keeps the logged-in user in the 'session-username' cookie and the cart in the
+ * 'cart-contents' localStorage key (a JSON array of numeric product ids). The driver must
+ * already be on the application origin, since both are scoped to the current site.
+ */
+public class AppStateSeeder {
+
+    private static final Logger log = LogsUtils.getLogger(AppStateSeeder.class);
+
+    private static final String SESSION_COOKIE = "session-username";
+    private static final String CART_STORAGE_KEY = "cart-contents";
+
+    // data-test item ids (as used in inventory_test_items.json) -> SauceDemo product ids
+    private static final Map<String, Integer> PRODUCT_IDS = Map.of(
+            "sauce-labs-bike-light", 0,
+            "sauce-labs-bolt-t-shirt", 1,
+            "sauce-labs-onesie", 2,
+            "test.allthethings()-t-shirt-(red)", 3,
+            "sauce-labs-backpack", 4,
+            "sauce-labs-fleece-jacket", 5
+    );
+
+    private final String username;
+    private final List<Integer> cartProductIds = new ArrayList<>();
+    private String firstName;
+    private String lastName;
+    private String postalCode;
+
+    private AppStateSeeder(String username) {
+        this.username = username;
+    }
+
+    public static AppStateSeeder forUser(String username) {
+        if (username == null || username.isBlank()) {
+            throw new IllegalArgumentException("username must not be null or empty");
+        }
+        return new AppStateSeeder(username);
+    }
+
+    public static int getProductId(String itemId) {
+        Integer productId = PRODUCT_IDS.get(itemId);
+        if (productId == null) {
+            throw new IllegalArgumentException("Unknown SauceDemo itemId: " + itemId +
+                    ". Known ids: " + PRODUCT_IDS.keySet());
+        }
+        return productId;
+    }
+
+    public AppStateSeeder withCartItems(String... itemIds) {
+        for (String itemId : itemIds) {
+            cartProductIds.add(getProductId(itemId));
+        }
+        return this;
+    }
+
+    /**
+     * SauceDemo does not store checkout information: Step One only checks that all three
+     * fields are filled before moving on. The values are validated the same way here and
+     * kept on the seeder so the declared precondition stays readable in the test.
+     */
+    public AppStateSeeder withCheckoutInfo(String firstName, String lastName, String postalCode) {
+        if (isBlank(firstName) || isBlank(lastName) || isBlank(postalCode)) {
+            throw new IllegalArgumentException(
+                    "Checkout info must have first name, last name and postal code to pass Checkout Step One.");
+        }
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.postalCode = postalCode;
+        return this;
+    }
+
+    private boolean hasCheckoutInfo() {
+        return firstName != null;
+    }
+
+    /**
+     * Writes the session cookie and cart contents in a single script call
+     * (plus one cookie command). Navigation is left to the caller.
+     */
+    public void seed(WebDriver driver) {
+        driver.manage().addCookie(new Cookie.Builder(SESSION_COOKIE, username).path("/").build());
+        ((JavascriptExecutor) driver).executeScript(
+                "if (arguments[1].length) {" +
+                        "  window.localStorage.setItem(arguments[0], JSON.stringify(arguments[1]));" +
+                        "} else {" +
+                        "  window.localStorage.removeItem(arguments[0]);" +
+                        "}",
+                CART_STORAGE_KEY, cartProductIds);
+        log.info("Seeded app state: user={}, cart={}, checkoutInfo={}",
+                username, cartProductIds, hasCheckoutInfo() ? firstName + " " + lastName + ", " + postalCode : "none");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,112 @@
+package com.saucedemo.utilities.selenium.session;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of an authenticated browser session (cookies + localStorage)
+ * that can be written to disk and injected into a fresh browser.
+ */
+public class StorageState {
+
+    private String username;
+    private long capturedAtEpochMillis;
+    private List<CookieData> cookies = new ArrayList<>();
+    private Map<String, String> localStorage = new LinkedHashMap<>();
+
+    public StorageState() {}
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public long getCapturedAtEpochMillis() {
+        return capturedAtEpochMillis;
+    }
+
+    public void setCapturedAtEpochMillis(long capturedAtEpochMillis) {
+        this.capturedAtEpochMillis = capturedAtEpochMillis;
+    }
+
+    public List<CookieData> getCookies() {
+        return cookies;
+    }
+
+    public void setCookies(List<CookieData> cookies) {
+        this.cookies = cookies;
+    }
+
+    public Map<String, String> getLocalStorage() {
+        return localStorage;
+    }
+
+    public void setLocalStorage(Map<String, String> localStorage) {
+        this.localStorage = localStorage;
+    }
+
+    public static class CookieData {
+
+        private String name;
+        private String value;
+        private String path;
+        private boolean secure;
+        private boolean httpOnly;
+        private String sameSite;
+
+        public CookieData() {}
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public boolean isSecure() {
+            return secure;
+        }
+
+        public void setSecure(boolean secure) {
+            this.secure = secure;
+        }
+
+        public boolean isHttpOnly() {
+            return httpOnly;
+        }
+
+        public void setHttpOnly(boolean httpOnly) {
+            this.httpOnly = httpOnly;
+        }
+
+        public String getSameSite() {
+            return sameSite;
+        }
+
+        public void setSameSite(String sameSite) {
+            this.sameSite = sameSite;
+        }
+    }
+}
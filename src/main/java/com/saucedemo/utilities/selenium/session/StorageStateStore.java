@@ -0,0 +1,173 @@
+package com.saucedemo.utilities.selenium.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Captures, persists and re-injects logged-in browser state per user, so tests that
+ * only need "a logged-in user" can skip the login form.
+ * State files live in 'storage.state.dir' (one JSON file per username) and are
+ * re-captured once they are older than 'storage.state.max.age.minutes'.
+ */
+public class StorageStateStore {
+
+    private static final Logger log = LogsUtils.getLogger(StorageStateStore.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String LOGIN_MODE_KEY = "login.mode";
+    private static final String STATE_DIR_KEY = "storage.state.dir";
+    private static final String MAX_AGE_MINUTES_KEY = "storage.state.max.age.minutes";
+
+    private static final Map<String, StorageState> CACHE = new ConcurrentHashMap<>();
+
+    private StorageStateStore() {}
+
+    /**
+     * True when 'login.mode=storage-state'; otherwise tests log in through the UI.
+     */
+    public static boolean isEnabled() {
+        return "storage-state".equalsIgnoreCase(PropertiesUtils.getProperty(LOGIN_MODE_KEY, "ui").trim());
+    }
+
+    /**
+     * Reads cookies and localStorage from the current page of the given driver.
+     */
+    @SuppressWarnings("unchecked")
+    public static StorageState capture(WebDriver driver, String username) {
+        StorageState state = new StorageState();
+        state.setUsername(username);
+        state.setCapturedAtEpochMillis(System.currentTimeMillis());
+
+        for (Cookie cookie : driver.manage().getCookies()) {
+            StorageState.CookieData data = new StorageState.CookieData();
+            data.setName(cookie.getName());
+            data.setValue(cookie.getValue());
+            data.setPath(cookie.getPath());
+            data.setSecure(cookie.isSecure());
+            data.setHttpOnly(cookie.isHttpOnly());
+            data.setSameSite(cookie.getSameSite());
+            state.getCookies().add(data);
+        }
+
+        Object storage = ((JavascriptExecutor) driver).executeScript(
+                "var out = {};" +
+                        "for (var i = 0; i < window.localStorage.length; i++) {" +
+                        "  var k = window.localStorage.key(i); out[k] = window.localStorage.getItem(k);" +
+                        "}" +
+                        "return out;");
+        if (storage instanceof Map) {
+            ((Map<String, Object>) storage).forEach((k, v) -> state.getLocalStorage().put(k, String.valueOf(v)));
+        }
+        return state;
+    }
+
+    /**
+     * Writes the state to disk and keeps it in memory for the rest of the run.
+     */
+    public static void save(StorageState state) {
+        CACHE.put(state.getUsername(), state);
+        Path file = stateFile(state.getUsername());
+        try {
+            Files.createDirectories(file.getParent());
+            // Write to a temp file first so parallel readers never see a half-written file
+            Path temp = Files.createTempFile(file.getParent(), state.getUsername(), ".tmp");
+            OBJECT_MAPPER.writeValue(temp.toFile(), state);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved storage state for '{}' to {}", state.getUsername(), file);
+        } catch (IOException e) {
+            log.warn("Failed to persist storage state for '{}': {}", state.getUsername(), e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a still-valid state for the user from memory or disk, or null if it must be captured.
+     */
+    public static StorageState load(String username) {
+        StorageState cached = CACHE.get(username);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        Path file = stateFile(username);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            StorageState state = OBJECT_MAPPER.readValue(file.toFile(), StorageState.class);
+            if (isExpired(state)) {
+                log.info("Storage state for '{}' is older than {} minutes, it will be re-captured.",
+                        username, getMaxAge().toMinutes());
+                return null;
+            }
+            CACHE.put(username, state);
+            return state;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable storage state file {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Drops the state for a user, e.g. when injection did not result in a logged-in session.
+     */
+    public static void invalidate(String username) {
+        CACHE.remove(username);
+        try {
+            Files.deleteIfExists(stateFile(username));
+        } catch (IOException e) {
+            log.warn("Failed to delete storage state for '{}': {}", username, e.getMessage());
+        }
+    }
+
+    /**
+     * Injects the state into the driver. The driver must already be on the application origin,
+     * because cookies and localStorage are scoped to the current site.
+     * Cookie expiry is dropped on purpose so an old capture cannot expire mid-test.
+     */
+    public static void inject(WebDriver driver, StorageState state) {
+        for (StorageState.CookieData data : state.getCookies()) {
+            driver.manage().addCookie(new Cookie.Builder(data.getName(), data.getValue())
+                    .path(data.getPath() == null ? "/" : data.getPath())
+                    .isSecure(data.isSecure())
+                    .isHttpOnly(data.isHttpOnly())
+                    .sameSite(data.getSameSite())
+                    .build());
+        }
+        if (!state.getLocalStorage().isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(
+                    "var items = arguments[0];" +
+                            "Object.keys(items).forEach(function (k) { window.localStorage.setItem(k, items[k]); });",
+                    new LinkedHashMap<>(state.getLocalStorage()));
+        }
+    }
+
+    private static boolean isExpired(StorageState state) {
+        long ageMillis = System.currentTimeMillis() - state.getCapturedAtEpochMillis();
+        return ageMillis > getMaxAge().toMillis();
+    }
+
+    private static Duration getMaxAge() {
+        return Duration.ofMinutes(PropertiesUtils.getLongProperty(MAX_AGE_MINUTES_KEY, 60));
+    }
+
+    private static Path stateFile(String username) {
+        String dir = PropertiesUtils.getProperty(STATE_DIR_KEY, "test_outputs/storage_state");
+        return Paths.get(dir, username + ".json");
+    }
+}
@@ -0,0 +1,304 @@
+package com.saucedemo.utilities.server;
+
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.logging.LogsUtils;
+import com.saucedemo.utilities.selenium.network.LatencyProfile;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves SauceDemo from localhost when base.url=local, so runs do not depend on the internet.
+ * <ul>
+ *     <li>By default the built-in stand-in app (classpath 'localapp/') is served: same pages, element
+ *     ids, texts, personas, session cookie and cart storage as the public site.</li>
+ *     <li>'local.server.root' can point to a directory with a pinned build of the real app instead.</li>
+ * </ul>
+ * App routes (inventory.html, cart.html, ...) all return the single-page shell, like the public site.
+ * Once started, base.url is overridden with the local URL as a system property, so every reader of
+ * base.url (page objects, BaseTest, driver pool scrubbing) picks it up.
+ * The server listens on the loopback interface only, unless 'local.server.host' names another
+ * address of this machine (e.g. for grid nodes), in which case it listens on that address.
+ * The active {@link LatencyProfile} (latency.profile) delays responses before they are sent.
+ */
+public class LocalSauceDemoServer {
+
+    private static final Logger log = LogsUtils.getLogger(LocalSauceDemoServer.class);
+
+    public static final String LOCAL_BASE_URL = "local";
+
+    private static final String BASE_URL_KEY = "base.url";
+    private static final String PORT_KEY = "local.server.port";
+    private static final String HOST_KEY = "local.server.host";
+    private static final String ROOT_KEY = "local.server.root";
+    private static final String CLASSPATH_ROOT = "/localapp";
+    private static final String SHELL = "/index.html";
+    private static final String SESSION_COOKIE = "session-username";
+    // Tells browser sessions apart for the latency profile's per-session request counts
+    private static final String LATENCY_COOKIE = "latency-session";
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "svg", "image/svg+xml",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "json", "application/json; charset=utf-8",
+            "ico", "image/x-icon",
+            "woff2", "font/woff2");
+
+    private static volatile LocalSauceDemoServer instance;
+    // -Dbase.url value in effect before the server replaced it (restored on shutdown)
+    private static String previousBaseUrlOverride;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String baseUrl;
+    private final Path snapshotRoot;
+    private final Map<String, Optional<byte[]>> classpathCache = new ConcurrentHashMap<>();
+    private final Map<String, LatencyProfile.Session> latencySessions = new ConcurrentHashMap<>();
+
+    // ---------- Metrics ----------
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
+    private final AtomicLong notFound = new AtomicLong();
+
+    private LocalSauceDemoServer() {
+        String root = PropertiesUtils.getProperty(ROOT_KEY, "").trim();
+        if (!root.isEmpty() && !Files.isRegularFile(Paths.get(root).resolve("index.html"))) {
+            throw new IllegalStateException("local.server.root in testConfig.properties must be a directory " +
+                    "containing index.html. Current value: " + root);
+        }
+        this.snapshotRoot = root.isEmpty() ? null : Paths.get(root).toAbsolutePath().normalize();
+
+        int port = PropertiesUtils.getIntProperty(PORT_KEY, 0);
+        String host = PropertiesUtils.getProperty(HOST_KEY, "localhost").trim();
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(bindAddress(host), port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the local SauceDemo server on port " + port +
+                    ". Change 'local.server.port' in testConfig.properties.", e);
+        }
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "local-saucedemo-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+
+        this.baseUrl = "http://" + host + ":" + server.getAddress().getPort() + "/";
+        log.info("Local SauceDemo server started at {} ({})", baseUrl,
+                snapshotRoot == null ? "built-in stand-in app" : "snapshot " + snapshotRoot);
+    }
+
+    private static InetAddress bindAddress(String host) {
+        if (host.isEmpty() || "localhost".equalsIgnoreCase(host)) {
+            return InetAddress.getLoopbackAddress();
+        }
+        try {
+            return InetAddress.getByName(host);
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("local.server.host in testConfig.properties is not a known address " +
+                    "of this machine: " + host, e);
+        }
+    }
+
+    /**
+     * Starts the server if base.url=local and points base.url at it; does nothing otherwise.
+     * Safe to call more than once.
+     */
+    public static void startIfConfigured() {
+        if (instance != null) {
+            return;
+        }
+        String configured = PropertiesUtils.getProperty(BASE_URL_KEY, "").trim();
+        if (!LOCAL_BASE_URL.equalsIgnoreCase(configured)) {
+            return;
+        }
+        synchronized (LocalSauceDemoServer.class) {
+            if (instance == null) {
+                LocalSauceDemoServer started = new LocalSauceDemoServer();
+                previousBaseUrlOverride = System.getProperty(BASE_URL_KEY);
+                System.setProperty(BASE_URL_KEY, started.baseUrl);
+                instance = started;
+            }
+        }
+    }
+
+    /**
+     * The running server, or null if base.url is not local.
+     */
+    public static LocalSauceDemoServer getIfStarted() {
+        return instance;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Stops the server and returns its metrics summary (empty if it was never started).
+     */
+    public static String shutdown() {
+        LocalSauceDemoServer running;
+        synchronized (LocalSauceDemoServer.class) {
+            running = instance;
+            instance = null;
+        }
+        if (running == null) {
+            return "";
+        }
+        running.server.stop(0);
+        running.executor.shutdownNow();
+        if (previousBaseUrlOverride == null) {
+            System.clearProperty(BASE_URL_KEY);
+        } else {
+            System.setProperty(BASE_URL_KEY, previousBaseUrlOverride);
+        }
+        return running.getMetricsSummary();
+    }
+
+    public String getMetricsSummary() {
+        return String.format("Local SauceDemo server (%s): requests=%d, notFound=%d, served=%d KB",
+                baseUrl, requests.get(), notFound.get(), bytesServed.get() / 1024);
+    }
+
+    // ---------- Request handling ----------
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            if (path == null || path.isEmpty() || "/".equals(path)) {
+                path = SHELL;
+            }
+            byte[] body = path.contains("..") ? null : load(path).orElse(null);
+            String extension = extension(path);
+            if (body == null && (extension.isEmpty() || "html".equals(extension))) {
+                // Client-side route: the app decides what to render
+                body = load(SHELL).orElse(null);
+                extension = "html";
+            }
+            if (body == null && path.startsWith("/static/media/") && "svg".equals(extension)) {
+                body = placeholderImage(path);
+            }
+            if (body == null) {
+                notFound.incrementAndGet();
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            delay(exchange, path, "HEAD".equals(method) ? 0 : body.length);
+            exchange.getResponseHeaders().set("Content-Type",
+                    CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"));
+            exchange.getResponseHeaders().set("Cache-Control", "html".equals(extension) ? "no-cache" : "max-age=3600");
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            bytesServed.addAndGet(body.length);
+        }
+    }
+
+    private void delay(HttpExchange exchange, String path, long bodyBytes) {
+        LatencyProfile profile = LatencyProfile.current();
+        if (profile == null || !profile.appliesToUser(cookie(exchange, SESSION_COOKIE))) {
+            return;
+        }
+        // A browser without the cookie is a new session (fresh browsers and pool scrubbing clear cookies)
+        String sessionId = cookie(exchange, LATENCY_COOKIE);
+        if (sessionId == null) {
+            sessionId = UUID.randomUUID().toString();
+            exchange.getResponseHeaders().add("Set-Cookie", LATENCY_COOKIE + "=" + sessionId + "; Path=/");
+        }
+        LatencyProfile.Session session = latencySessions.computeIfAbsent(sessionId, key -> profile.newSession());
+        LatencyProfile.pause(session.delayFor(path, bodyBytes));
+    }
+
+    private static String cookie(HttpExchange exchange, String name) {
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", List.of())) {
+            for (String cookie : header.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && name.equals(pair[0])) {
+                    return pair[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private Optional<byte[]> load(String path) {
+        if (snapshotRoot != null) {
+            Path file = snapshotRoot.resolve(path.substring(1)).normalize();
+            if (!file.startsWith(snapshotRoot) || !Files.isRegularFile(file)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(Files.readAllBytes(file));
+            } catch (IOException e) {
+                log.warn("Could not read {}: {}", file, e.getMessage());
+                return Optional.empty();
+            }
+        }
+        return classpathCache.computeIfAbsent(path, key -> {
+            try (InputStream in = LocalSauceDemoServer.class.getResourceAsStream(CLASSPATH_ROOT + key)) {
+                return in == null ? Optional.empty() : Optional.of(in.readAllBytes());
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    /**
+     * Product images of the stand-in app: a labelled placeholder per file name.
+     */
+    private static byte[] placeholderImage(String path) {
+        String name = path.substring(path.lastIndexOf('/') + 1, path.length() - ".svg".length());
+        String label = name.replaceAll("[^A-Za-z0-9().-]", " ");
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"240\" height=\"300\" viewBox=\"0 0 240 300\">" +
+                "<rect width=\"240\" height=\"300\" fill=\"#e8ecef\"/>" +
+                "<text x=\"120\" y=\"150\" font-family=\"Arial\" font-size=\"14\" text-anchor=\"middle\" fill=\"#132322\">" +
+                label + "</text></svg>";
+        return svg.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String extension(String path) {
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase();
+    }
+}
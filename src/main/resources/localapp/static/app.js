@@ -0,0 +1,505 @@
+/*
+ * Local stand-in for the SauceDemo (Swag Labs) web app, served by LocalSauceDemoServer when base.url=local.
+ * It reproduces what the test framework relies on: page paths, element ids / classes / data-test
+ * attributes, texts and error messages, the 'session-username' cookie and the 'cart-contents'
+ * localStorage key. Persona quirks are limited to those that leave the purchase flow working
+ * (problem_user: broken images, performance_glitch_user: slow login, visual_user: cart icon class).
+ */
+(function () {
+    'use strict';
+
+    var SESSION_COOKIE = 'session-username';
+    var CART_KEY = 'cart-contents';
+    var PASSWORD = 'secret_sauce';
+    var USERS = ['standard_user', 'locked_out_user', 'problem_user',
+        'performance_glitch_user', 'error_user', 'visual_user'];
+    var GLITCH_LOGIN_DELAY_MILLIS = 1500;
+    var TAX_RATE = 0.08;
+
+    var PRODUCTS = [
+        { id: 0, name: 'Sauce Labs Bike Light', price: 9.99,
+            desc: "A red light isn't the desired state in testing but it sure helps when riding your bike at night. " +
+                'Water-resistant with 3 lighting modes, 1 AAA battery included.' },
+        { id: 1, name: 'Sauce Labs Bolt T-Shirt', price: 15.99,
+            desc: 'Get your testing superhero on with the Sauce Labs bolt T-shirt. From American Apparel, ' +
+                '100% ringspun combed cotton, heather gray with red bolt.' },
+        { id: 2, name: 'Sauce Labs Onesie', price: 7.99,
+            desc: 'Rib snap infant onesie for the junior automation engineer in development. Reinforced 3-snap ' +
+                "bottom closure, two-needle hemmed sleeved and bottom won't unravel." },
+        { id: 3, name: 'Test.allTheThings() T-Shirt (Red)', price: 15.99,
+            desc: 'This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate ' +
+                'a few tests. Super-soft and comfy ringspun combed cotton.' },
+        { id: 4, name: 'Sauce Labs Backpack', price: 29.99,
+            desc: 'carry.allTheThings() with the sleek, streamlined Sly Pack that melds uncompromising style with ' +
+                'unequaled laptop and tablet protection.' },
+        { id: 5, name: 'Sauce Labs Fleece Jacket', price: 49.99,
+            desc: "It's not every day that you come across a midweight quarter-zip fleece jacket capable of handling " +
+                'everything from a relaxing day outdoors to a busy day at the office.' }
+    ];
+
+    var SORTS = {
+        az: function (a, b) { return a.name.localeCompare(b.name); },
+        za: function (a, b) { return b.name.localeCompare(a.name); },
+        lohi: function (a, b) { return a.price - b.price || a.name.localeCompare(b.name); },
+        hilo: function (a, b) { return b.price - a.price || a.name.localeCompare(b.name); }
+    };
+    var sortValue = 'az';
+
+    // ---------- Helpers ----------
+
+    function h(tag, props) {
+        var node = document.createElement(tag);
+        Object.keys(props || {}).forEach(function (key) {
+            var value = props[key];
+            if (value === null || value === undefined) return;
+            if (key === 'className') node.className = value;
+            else if (key === 'text') node.textContent = value;
+            else if (key === 'dataTest') node.setAttribute('data-test', value);
+            else if (key.indexOf('on') === 0) node.addEventListener(key.substring(2), value);
+            else node.setAttribute(key, value);
+        });
+        for (var i = 2; i < arguments.length; i++) {
+            [].concat(arguments[i]).forEach(function (child) {
+                if (child === null || child === undefined || child === false) return;
+                node.appendChild(typeof child === 'string' ? document.createTextNode(child) : child);
+            });
+        }
+        return node;
+    }
+
+    function slug(product) {
+        return product.name.toLowerCase().replace(/\s+/g, '-');
+    }
+
+    function money(value) {
+        return '$' + value.toFixed(2);
+    }
+
+    function product(id) {
+        return PRODUCTS.filter(function (p) { return p.id === id; })[0] || null;
+    }
+
+    function go(path) {
+        location.href = '/' + path;
+    }
+
+    function link(handler) {
+        return function (event) {
+            event.preventDefault();
+            handler();
+        };
+    }
+
+    // ---------- Session and cart ----------
+
+    function cookieUser() {
+        var match = document.cookie.match(new RegExp('(?:^|; )' + SESSION_COOKIE + '=([^;]*)'));
+        return match ? decodeURIComponent(match[1]) : null;
+    }
+
+    function currentUser() {
+        var user = cookieUser();
+        return user && USERS.indexOf(user) >= 0 && user !== 'locked_out_user' ? user : null;
+    }
+
+    function startSession(user) {
+        document.cookie = SESSION_COOKIE + '=' + encodeURIComponent(user) + '; path=/; max-age=600';
+    }
+
+    function endSession() {
+        document.cookie = SESSION_COOKIE + '=; path=/; max-age=0';
+    }
+
+    function getCart() {
+        try {
+            var ids = JSON.parse(localStorage.getItem(CART_KEY) || '[]');
+            return Array.isArray(ids) ? ids.filter(function (id) { return product(id); }) : [];
+        } catch (e) {
+            return [];
+        }
+    }
+
+    function setCart(ids) {
+        if (ids.length) localStorage.setItem(CART_KEY, JSON.stringify(ids));
+        else localStorage.removeItem(CART_KEY);
+    }
+
+    function inCart(id) {
+        return getCart().indexOf(id) >= 0;
+    }
+
+    function addToCart(id) {
+        var ids = getCart();
+        if (ids.indexOf(id) < 0) ids.push(id);
+        setCart(ids);
+        updateBadge();
+    }
+
+    function removeFromCart(id) {
+        setCart(getCart().filter(function (other) { return other !== id; }));
+        updateBadge();
+    }
+
+    function imageFor(p) {
+        return currentUser() === 'problem_user' ? '/static/media/sl-404.svg' : '/static/media/' + slug(p) + '.svg';
+    }
+
+    // ---------- Login ----------
+
+    function loginError(username, password) {
+        if (!username) return 'Epic sadface: Username is required';
+        if (!password) return 'Epic sadface: Password is required';
+        if (password !== PASSWORD || USERS.indexOf(username) < 0) {
+            return 'Epic sadface: Username and password do not match any user in this service';
+        }
+        if (username === 'locked_out_user') return 'Epic sadface: Sorry, this user has been locked out.';
+        return null;
+    }
+
+    function errorBox(message, inputs) {
+        var box = h('div', { className: 'error-message-container' });
+        function show(text) {
+            box.innerHTML = '';
+            box.className = 'error-message-container' + (text ? ' error' : '');
+            inputs.forEach(function (input) { input.classList.toggle('input_error', !!text); });
+            if (!text) return;
+            box.appendChild(h('h3', { dataTest: 'error' },
+                h('button', { className: 'error-button', dataTest: 'error-button', type: 'button',
+                    onclick: function () { show(null); } }, 'x'),
+                text));
+        }
+        show(message);
+        return { node: box, show: show };
+    }
+
+    function renderLogin(message) {
+        var username = h('input', { className: 'form_input', id: 'user-name', name: 'user-name', type: 'text',
+            placeholder: 'Username', dataTest: 'username', autocorrect: 'off', autocapitalize: 'none' });
+        var password = h('input', { className: 'form_input', id: 'password', name: 'password', type: 'password',
+            placeholder: 'Password', dataTest: 'password', autocorrect: 'off', autocapitalize: 'none' });
+        var error = errorBox(message, [username, password]);
+        var form = h('form', {
+            onsubmit: function (event) {
+                event.preventDefault();
+                var problem = loginError(username.value, password.value);
+                error.show(problem);
+                if (problem) return;
+                startSession(username.value);
+                var delay = username.value === 'performance_glitch_user' ? GLITCH_LOGIN_DELAY_MILLIS : 0;
+                setTimeout(function () { go('inventory.html'); }, delay);
+            }
+        },
+            h('div', { className: 'form_group' }, username),
+            h('div', { className: 'form_group' }, password),
+            error.node,
+            h('input', { className: 'submit-button btn_action', id: 'login-button', name: 'login-button',
+                type: 'submit', value: 'Login', dataTest: 'login-button' }));
+        return h('div', { className: 'login_container' },
+            h('div', { className: 'login_logo', text: 'Swag Labs' }),
+            h('div', { className: 'login_wrapper' }, h('div', { className: 'login-box' }, form)),
+            h('div', { className: 'login_credentials_wrap' },
+                h('div', { className: 'login_credentials', dataTest: 'login-credentials' },
+                    h('h4', { text: 'Accepted usernames are:' }), USERS.map(function (user) {
+                        return h('div', { text: user });
+                    })),
+                h('div', { className: 'login_password', dataTest: 'login-password' },
+                    h('h4', { text: 'Password for all users:' }), PASSWORD)));
+    }
+
+    // ---------- Header, menu and footer ----------
+
+    function updateBadge() {
+        var cartLink = document.querySelector('.shopping_cart_link');
+        if (!cartLink) return;
+        var badge = cartLink.querySelector('.shopping_cart_badge');
+        var count = getCart().length;
+        if (!count) {
+            if (badge) badge.remove();
+            return;
+        }
+        if (!badge) {
+            badge = h('span', { className: 'shopping_cart_badge', dataTest: 'shopping-cart-badge' });
+            cartLink.appendChild(badge);
+        }
+        badge.textContent = String(count);
+    }
+
+    function renderMenu() {
+        var wrap = h('div', { className: 'bm-menu-wrap', 'aria-hidden': 'true', hidden: 'hidden' });
+        function setOpen(open) {
+            if (open) wrap.removeAttribute('hidden'); else wrap.setAttribute('hidden', 'hidden');
+            wrap.setAttribute('aria-hidden', String(!open));
+        }
+        wrap.appendChild(h('div', { className: 'bm-menu' },
+            h('nav', { className: 'bm-item-list' },
+                h('a', { id: 'inventory_sidebar_link', className: 'bm-item menu-item', href: '#',
+                    dataTest: 'inventory-sidebar-link', onclick: link(function () { go('inventory.html'); }) }, 'All Items'),
+                h('a', { id: 'about_sidebar_link', className: 'bm-item menu-item', href: 'https://saucelabs.com/',
+                    dataTest: 'about-sidebar-link' }, 'About'),
+                h('a', { id: 'logout_sidebar_link', className: 'bm-item menu-item', href: '#',
+                    dataTest: 'logout-sidebar-link', onclick: link(function () { endSession(); go(''); }) }, 'Logout'),
+                h('a', { id: 'reset_sidebar_link', className: 'bm-item menu-item', href: '#',
+                    dataTest: 'reset-sidebar-link', onclick: link(function () { setCart([]); route(); }) },
+                    'Reset App State'))));
+        wrap.appendChild(h('div', { className: 'bm-cross-button' },
+            h('button', { id: 'react-burger-cross-btn', type: 'button', onclick: function () { setOpen(false); } },
+                'Close Menu')));
+        var burger = h('div', { className: 'bm-burger-button' },
+            h('button', { id: 'react-burger-menu-btn', type: 'button', onclick: function () { setOpen(true); } },
+                'Open Menu'));
+        return h('div', { id: 'menu_button_container' }, burger, wrap);
+    }
+
+    function renderHeader(secondary) {
+        var cartContainer = h('div', {
+            id: 'shopping_cart_container',
+            className: 'shopping_cart_container' + (currentUser() === 'visual_user' ? ' visual_failure' : '')
+        }, h('a', { className: 'shopping_cart_link', href: '#', dataTest: 'shopping-cart-link',
+            onclick: link(function () { go('cart.html'); }) }));
+        return h('div', { id: 'header_container', className: 'header_container' },
+            h('div', { className: 'primary_header' },
+                renderMenu(),
+                h('div', { className: 'header_label' }, h('div', { className: 'app_logo', text: 'Swag Labs' })),
+                cartContainer),
+            h('div', { className: 'header_secondary_container', dataTest: 'secondary-header' }, secondary));
+    }
+
+    function title(text) {
+        return h('span', { className: 'title', dataTest: 'title', text: text });
+    }
+
+    function renderFooter() {
+        function social(name, label, href) {
+            return h('li', { className: 'social_' + name },
+                h('a', { href: href, target: '_blank', rel: 'noreferrer', dataTest: 'social-' + name }, label));
+        }
+        return h('footer', { className: 'footer', dataTest: 'footer' },
+            h('ul', { className: 'social' },
+                social('twitter', 'Twitter', 'https://twitter.com/saucelabs'),
+                social('facebook', 'Facebook', 'https://www.facebook.com/saucelabs'),
+                social('linkedin', 'LinkedIn', 'https://www.linkedin.com/company/sauce-labs/')),
+            h('div', { className: 'footer_copy', dataTest: 'footer-copy',
+                text: '© ' + new Date().getFullYear() + ' Sauce Labs. All Rights Reserved. ' +
+                    'Terms of Service | Privacy Policy' }));
+    }
+
+    function page(secondary, content) {
+        return h('div', { id: 'page_wrapper', className: 'page_wrapper' },
+            h('div', { id: 'contents_wrapper' }, renderHeader(secondary), content),
+            renderFooter());
+    }
+
+    // ---------- Inventory ----------
+
+    function cartButton(p, small) {
+        var added = inCart(p.id);
+        var prefix = added ? 'remove' : 'add-to-cart';
+        var idSuffix = small ? '-' + slug(p) : '';
+        var button = h('button', {
+            className: 'btn ' + (added ? 'btn_secondary' : 'btn_primary') + ' btn_small btn_inventory',
+            id: prefix + idSuffix, name: prefix + idSuffix, dataTest: prefix + idSuffix,
+            onclick: function () {
+                if (added) removeFromCart(p.id); else addToCart(p.id);
+                button.replaceWith(cartButton(p, small));
+            }
+        }, added ? 'Remove' : 'Add to cart');
+        return button;
+    }
+
+    function inventoryCard(p) {
+        var open = link(function () { go('inventory-item.html?id=' + p.id); });
+        return h('div', { className: 'inventory_item', dataTest: 'inventory-item' },
+            h('div', { className: 'inventory_item_img' },
+                h('a', { id: 'item_' + p.id + '_img_link', href: '#', dataTest: 'item-' + slug(p) + '-img-link', onclick: open },
+                    h('img', { className: 'inventory_item_img', alt: p.name, src: imageFor(p) }))),
+            h('div', { className: 'inventory_item_description', dataTest: 'inventory-item-description' },
+                h('div', { className: 'inventory_item_label' },
+                    h('a', { id: 'item_' + p.id + '_title_link', href: '#', dataTest: 'item-' + p.id + '-title-link', onclick: open },
+                        h('div', { className: 'inventory_item_name', dataTest: 'inventory-item-name', text: p.name })),
+                    h('div', { className: 'inventory_item_desc', dataTest: 'inventory-item-desc', text: p.desc })),
+                h('div', { className: 'pricebar' },
+                    h('div', { className: 'inventory_item_price', dataTest: 'inventory-item-price', text: money(p.price) }),
+                    cartButton(p, true))));
+    }
+
+    function renderInventory() {
+        var list = h('div', { className: 'inventory_list', dataTest: 'inventory-list' });
+        function fill() {
+            list.innerHTML = '';
+            PRODUCTS.slice().sort(SORTS[sortValue]).forEach(function (p) { list.appendChild(inventoryCard(p)); });
+        }
+        var select = h('select', { className: 'product_sort_container', dataTest: 'product-sort-container',
+            onchange: function () { sortValue = SORTS[select.value] ? select.value : 'az'; fill(); } },
+            h('option', { value: 'az' }, 'Name (A to Z)'),
+            h('option', { value: 'za' }, 'Name (Z to A)'),
+            h('option', { value: 'lohi' }, 'Price (low to high)'),
+            h('option', { value: 'hilo' }, 'Price (high to low)'));
+        select.value = sortValue;
+        fill();
+        return page([title('Products'), h('div', { className: 'right_component' }, select)],
+            h('div', { id: 'inventory_container', className: 'inventory_container' }, list));
+    }
+
+    function renderItem() {
+        var p = product(Number(new URLSearchParams(location.search).get('id')));
+        var back = h('button', { className: 'btn btn_secondary back btn_large inventory_details_back_button',
+            id: 'back-to-products', name: 'back-to-products', dataTest: 'back-to-products',
+            onclick: function () { go('inventory.html'); } }, 'Back to products');
+        var details = !p
+            ? h('div', { className: 'inventory_details_name large_size', text: 'ITEM NOT FOUND' })
+            : h('div', { className: 'inventory_details_container' },
+                h('div', { className: 'inventory_details_img_container' },
+                    h('img', { className: 'inventory_details_img', alt: p.name, src: imageFor(p) })),
+                h('div', { className: 'inventory_details_desc_container' },
+                    h('div', { className: 'inventory_details_name large_size', dataTest: 'inventory-item-name', text: p.name }),
+                    h('div', { className: 'inventory_details_desc large_size', dataTest: 'inventory-item-desc', text: p.desc }),
+                    h('div', { className: 'inventory_details_price', dataTest: 'inventory-item-price', text: money(p.price) }),
+                    cartButton(p, false)));
+        return page(back, h('div', { id: 'inventory_item_container', className: 'inventory_item_container' },
+            h('div', { className: 'inventory_details', dataTest: 'inventory-container' }, details)));
+    }
+
+    // ---------- Cart and checkout ----------
+
+    function cartItem(p, removable) {
+        var item = h('div', { className: 'cart_item', dataTest: 'inventory-item' },
+            h('div', { className: 'cart_quantity', dataTest: 'item-quantity', text: '1' }),
+            h('div', { className: 'cart_item_label' },
+                h('a', { id: 'item_' + p.id + '_title_link', href: '#', dataTest: 'item-' + p.id + '-title-link',
+                    onclick: link(function () { go('inventory-item.html?id=' + p.id); }) },
+                    h('div', { className: 'inventory_item_name', dataTest: 'inventory-item-name', text: p.name })),
+                h('div', { className: 'inventory_item_desc', dataTest: 'inventory-item-desc', text: p.desc }),
+                h('div', { className: 'item_pricebar' },
+                    h('div', { className: 'inventory_item_price', dataTest: 'inventory-item-price', text: money(p.price) }),
+                    removable && h('button', { className: 'btn btn_secondary btn_small cart_button',
+                        id: 'remove-' + slug(p), name: 'remove-' + slug(p), dataTest: 'remove-' + slug(p),
+                        onclick: function () { removeFromCart(p.id); item.remove(); } }, 'Remove'))));
+        return item;
+    }
+
+    function cartList(removable) {
+        return h('div', { className: 'cart_list', dataTest: 'cart-list' },
+            h('div', { className: 'cart_quantity_label', text: 'QTY' }),
+            h('div', { className: 'cart_desc_label', text: 'Description' }),
+            getCart().map(function (id) { return cartItem(product(id), removable); }));
+    }
+
+    function renderCart() {
+        return page(title('Your Cart'), h('div', { id: 'cart_contents_container', className: 'cart_contents_container' },
+            cartList(true),
+            h('div', { className: 'cart_footer' },
+                h('button', { className: 'btn btn_secondary back btn_medium', id: 'continue-shopping',
+                    name: 'continue-shopping', dataTest: 'continue-shopping', onclick: function () { go('inventory.html'); } },
+                    'Continue Shopping'),
+                h('button', { className: 'btn btn_action btn_medium checkout_button', id: 'checkout',
+                    name: 'checkout', dataTest: 'checkout', onclick: function () { go('checkout-step-one.html'); } },
+                    'Checkout'))));
+    }
+
+    function renderStepOne() {
+        function input(id, placeholder, dataTest) {
+            return h('input', { className: 'input_error form_input', id: id, name: id, type: 'text',
+                placeholder: placeholder, dataTest: dataTest, autocorrect: 'off', autocapitalize: 'none' });
+        }
+        var firstName = input('first-name', 'First Name', 'firstName');
+        var lastName = input('last-name', 'Last Name', 'lastName');
+        var postalCode = input('postal-code', 'Zip/Postal Code', 'postalCode');
+        var error = errorBox(null, [firstName, lastName, postalCode]);
+        var form = h('form', {
+            onsubmit: function (event) {
+                event.preventDefault();
+                var problem = !firstName.value ? 'Error: First Name is required'
+                    : !lastName.value ? 'Error: Last Name is required'
+                        : !postalCode.value ? 'Error: Postal Code is required' : null;
+                error.show(problem);
+                if (!problem) go('checkout-step-two.html');
+            }
+        },
+            h('div', { className: 'checkout_info' },
+                h('div', { className: 'form_group' }, firstName),
+                h('div', { className: 'form_group' }, lastName),
+                h('div', { className: 'form_group' }, postalCode),
+                error.node),
+            h('div', { className: 'checkout_buttons' },
+                h('button', { className: 'btn btn_secondary back btn_medium cart_cancel_link', id: 'cancel',
+                    name: 'cancel', dataTest: 'cancel', type: 'button', onclick: function () { go('cart.html'); } },
+                    'Cancel'),
+                h('input', { className: 'submit-button btn btn_primary cart_button btn_action', id: 'continue',
+                    name: 'continue', type: 'submit', value: 'Continue', dataTest: 'continue' })));
+        return page(title('Checkout: Your Information'),
+            h('div', { id: 'checkout_info_container', className: 'checkout_info_container' },
+                h('div', { className: 'checkout_info_wrapper' }, form)));
+    }
+
+    function renderStepTwo() {
+        var itemTotal = getCart().reduce(function (sum, id) { return sum + product(id).price; }, 0);
+        var tax = Math.round(itemTotal * TAX_RATE * 100) / 100;
+        function label(text, dataTest) {
+            return h('div', { className: 'summary_info_label', dataTest: dataTest, text: text });
+        }
+        return page(title('Checkout: Overview'),
+            h('div', { id: 'checkout_summary_container', className: 'checkout_summary_container' },
+                cartList(false),
+                h('div', { className: 'summary_info' },
+                    label('Payment Information:', 'payment-info-label'),
+                    h('div', { className: 'summary_value_label', dataTest: 'payment-info-value', text: 'SauceCard #31337' }),
+                    label('Shipping Information:', 'shipping-info-label'),
+                    h('div', { className: 'summary_value_label', dataTest: 'shipping-info-value',
+                        text: 'Free Pony Express Delivery!' }),
+                    label('Price Total', 'total-info-label'),
+                    h('div', { className: 'summary_subtotal_label', dataTest: 'subtotal-label',
+                        text: 'Item total: ' + money(itemTotal) }),
+                    h('div', { className: 'summary_tax_label', dataTest: 'tax-label', text: 'Tax: ' + money(tax) }),
+                    h('div', { className: 'summary_total_label', dataTest: 'total-label',
+                        text: 'Total: ' + money(itemTotal + tax) }),
+                    h('div', { className: 'cart_footer' },
+                        h('button', { className: 'btn btn_secondary back btn_medium cart_cancel_link', id: 'cancel',
+                            name: 'cancel', dataTest: 'cancel', onclick: function () { go('inventory.html'); } }, 'Cancel'),
+                        h('button', { className: 'btn btn_action btn_medium cart_button', id: 'finish',
+                            name: 'finish', dataTest: 'finish', onclick: function () { setCart([]); go('checkout-complete.html'); } },
+                            'Finish')))));
+    }
+
+    function renderComplete() {
+        return page(title('Checkout: Complete!'),
+            h('div', { id: 'checkout_complete_container', className: 'checkout_complete_container' },
+                h('img', { className: 'pony_express', alt: 'Pony Express', src: '/static/media/pony-express.svg' }),
+                h('h2', { className: 'complete-header', dataTest: 'complete-header', text: 'Thank you for your order!' }),
+                h('div', { className: 'complete-text', dataTest: 'complete-text',
+                    text: 'Your order has been dispatched, and will arrive just as fast as the pony can get there!' }),
+                h('button', { className: 'btn btn_primary btn_small', id: 'back-to-products', name: 'back-to-products',
+                    dataTest: 'back-to-products', onclick: function () { go('inventory.html'); } }, 'Back Home')));
+    }
+
+    // ---------- Routing ----------
+
+    var PROTECTED_PAGES = {
+        'inventory.html': renderInventory,
+        'inventory-item.html': renderItem,
+        'cart.html': renderCart,
+        'checkout-step-one.html': renderStepOne,
+        'checkout-step-two.html': renderStepTwo,
+        'checkout-complete.html': renderComplete
+    };
+
+    function route() {
+        var path = location.pathname.replace(/^\/+/, '');
+        var root = document.getElementById('root');
+        var render = PROTECTED_PAGES[path];
+        var view;
+        if (!render) {
+            if (path !== '' && path !== 'index.html') history.replaceState(null, '', '/');
+            view = renderLogin(null);
+        } else if (!currentUser()) {
+            history.replaceState(null, '', '/');
+            view = renderLogin("Epic sadface: You can only access '/" + path + "' when you are logged in.");
+        } else {
+            view = render();
+        }
+        root.innerHTML = '';
+        root.appendChild(view);
+        updateBadge();
+    }
+
+    route();
+})();
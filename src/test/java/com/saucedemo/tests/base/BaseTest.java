@@ -4,37 +4,89 @@ import com.saucedemo.utilities.assertions.AssertionManager;
 import com.saucedemo.utilities.config.PropertiesUtils;
 import com.saucedemo.utilities.selenium.driver.DriverManager;
 import com.saucedemo.utilities.selenium.driver.DriverManagerFactory;
+import com.saucedemo.utilities.reporting.AllureUtils;
+import com.saucedemo.utilities.selenium.helperClasses.AppReady;
+import com.saucedemo.utilities.selenium.helperClasses.AtomicActions;
+import com.saucedemo.utilities.selenium.helperClasses.BrowserUtils;
+import com.saucedemo.utilities.selenium.helperClasses.ElementCache;
+import com.saucedemo.utilities.selenium.helperClasses.ExternalLinks;
+import com.saucedemo.utilities.selenium.helperClasses.FormFiller;
+import com.saucedemo.utilities.selenium.helperClasses.OptionalElements;
+import com.saucedemo.utilities.selenium.helperClasses.WaitEngine;
+import com.saucedemo.utilities.selenium.network.LatencyProfile;
+import com.saucedemo.utilities.selenium.network.RequestBlocker;
+import com.saucedemo.utilities.selenium.network.TrafficCache;
+import com.saucedemo.utilities.server.LocalSauceDemoServer;
 import io.qameta.allure.*;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
 
 @Epic("SauceDemo Web Application")
 @Feature("Test Infrastructure & Environment Setup")
 @Owner("Mohamed Kamal")
 public class BaseTest {
 
-    protected WebDriver driver;
     protected String baseUrl;
 
+    /**
+     * Suite metrics attached to Allure at shutdown, in this order (Allure attachment name -> summary).
+     * A summary is blank when its component was not used; the shutdown suppliers also release resources.
+     */
+    private static final Map<String, Supplier<String>> SUITE_METRICS = new LinkedHashMap<>();
+
+    static {
+        SUITE_METRICS.put("Driver Metrics", DriverManagerFactory::shutdown);
+        SUITE_METRICS.put("Wait Metrics", ifActive(WaitEngine::hasActivity, WaitEngine::getMetricsSummary));
+        SUITE_METRICS.put("Optional Element Checks",
+                ifActive(OptionalElements::hasActivity, OptionalElements::getMetricsSummary));
+        SUITE_METRICS.put("Element Cache", ifActive(ElementCache::hasActivity, ElementCache::getMetricsSummary));
+        SUITE_METRICS.put("Form Fill", ifActive(FormFiller::hasActivity, FormFiller::getMetricsSummary));
+        SUITE_METRICS.put("Atomic Actions", ifActive(AtomicActions::hasActivity, AtomicActions::getMetricsSummary));
+        SUITE_METRICS.put("App Ready", ifActive(AppReady::hasActivity, AppReady::getMetricsSummary));
+        SUITE_METRICS.put("External Links", ifActive(ExternalLinks::hasActivity, ExternalLinks::getMetricsSummary));
+        SUITE_METRICS.put("Request Blocking", RequestBlocker::shutdown);
+        SUITE_METRICS.put("Latency Injection", ifActive(LatencyProfile::hasActivity, LatencyProfile::getMetricsSummary));
+        SUITE_METRICS.put("Traffic Cache", TrafficCache::shutdown);
+        SUITE_METRICS.put("Local Server", LocalSauceDemoServer::shutdown);
+    }
+
+    private static Supplier<String> ifActive(BooleanSupplier hasActivity, Supplier<String> summary) {
+        return () -> hasActivity.getAsBoolean() ? summary.get() : "";
+    }
+
     @BeforeSuite(alwaysRun = true)
+    @Step("Start the local SauceDemo server when base.url=local")
+    public void startLocalServer() {
+        LocalSauceDemoServer.startIfConfigured();
+    }
+
+    @BeforeSuite(alwaysRun = true, dependsOnMethods = "startLocalServer")
     @Step("Write Allure environment information")
     public void setupAllureEnvironment(){
         com.saucedemo.utilities.reporting.AllureUtils.writeEnvironmentInfo();
     }
     @BeforeMethod(alwaysRun = true)
     @Step("Initialize WebDriver and navigate to base URL")
-    public void setUp() {
-        // 1) Start the driver via the factory
+    public void setUp(ITestResult result) {
+        // 1) Start the driver via the factory; block lists apply from the first navigation
         DriverManagerFactory.initDriver();
+        RequestBlocker.activate(getDriver(),
+                result.getTestContext().getCurrentXmlTest().getParameter("network.block.lists"),
+                result.getMethod().getGroups());
+        LatencyProfile.startTest(getDriver());
 
-        // 2) Get the driver from DriverManager
-        driver = DriverManager.getDriver();
-
-        // 3) Read base URL from properties (no hard-coding)
+        // 2) Read base URL from properties (no hard-coding); with base.url=local the suite already
+        //    started the local server and replaced base.url with its address
         baseUrl = PropertiesUtils.getProperty("base.url");
         if (baseUrl == null || baseUrl.isBlank()) {
             throw new IllegalStateException(
@@ -42,8 +94,16 @@ public class BaseTest {
             );
         }
 
-        // 4) Navigate to the base URL
-        driver.get(baseUrl);
+        // 3) Navigate to the base URL (returns once the app is usable)
+        BrowserUtils.openUrl(baseUrl);
+    }
+
+    /**
+     * The current thread's driver. Tests share one class instance when running
+     * parallel="methods", so the driver is never cached in a field here.
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
     }
 
     @BeforeMethod(alwaysRun = true)
@@ -55,13 +115,33 @@ public class BaseTest {
     @AfterMethod(alwaysRun = true)
     @Step("Quit WebDriver after test")
     public void tearDown() {
-        // 5) Close and clean up driver after each test
+        // 4) Close and clean up driver after each test
         DriverManager.quitDriver();
     }
 
+    @AfterMethod(alwaysRun = true)
+    @Step("Report blocked network requests")
+    public void reportBlockedRequests() {
+        String report = RequestBlocker.finishTest();
+        if (!report.isBlank()) {
+            AllureUtils.attachText("Blocked Requests", report);
+        }
+    }
+
     @AfterMethod
     @Step("Verify and report all soft assertions")
     public void assertAllSoftAssert(ITestResult result) {
         AssertionManager.assertAll(result);
     }
+
+    @AfterSuite(alwaysRun = true)
+    @Step("Shut down shared driver infrastructure and report its metrics")
+    public void shutdownDriverInfrastructure() {
+        SUITE_METRICS.forEach((name, summary) -> {
+            String metrics = summary.get();
+            if (!metrics.isBlank()) {
+                AllureUtils.attachText(name, metrics);
+            }
+        });
+    }
 }
@@ -1,11 +1,14 @@
 package com.saucedemo.tests.base;
 
+import com.saucedemo.pages.BasePage;
 import com.saucedemo.pages.CartPage;
 import com.saucedemo.pages.CheckoutStepOnePage;
 import com.saucedemo.pages.CheckoutStepTwoPage;
 import com.saucedemo.pages.InventoryPage;
 import com.saucedemo.tests.utils.models.CheckoutModel;
 import com.saucedemo.tests.utils.models.ItemModel;
+import com.saucedemo.utilities.config.PropertiesUtils;
+import com.saucedemo.utilities.selenium.session.AppStateSeeder;
 import io.qameta.allure.*;
 
 
@@ -14,8 +17,38 @@ import io.qameta.allure.*;
 @Owner("Mohamed Kamal")
 public class CheckoutBaseTest extends LoginBaseTest {
 
+    private static final String CHECKOUT_PRECONDITION_MODE_KEY = "checkout.precondition.mode";
+
+    /**
+     * 'seed' writes cart/session state and jumps straight to Step One/Step Two;
+     * 'ui' clicks through Inventory -> Cart -> Step One -> Step Two (default).
+     */
+    protected boolean isSeedMode() {
+        return "seed".equalsIgnoreCase(PropertiesUtils.getProperty(CHECKOUT_PRECONDITION_MODE_KEY, "ui").trim());
+    }
+
+    /**
+     * Starts a declarative precondition for the logged-in standard user, e.g.
+     * {@code givenState().withCartItems("sauce-labs-backpack").withCheckoutInfo("A", "B", "1")}.
+     */
+    protected AppStateSeeder givenState() {
+        return AppStateSeeder.forUser(standardUser.getUsername());
+    }
+
+    @Step("Seed app state and open {relativePath} directly")
+    protected void seedAndOpen(AppStateSeeder state, BasePage targetPage, String relativePath) {
+        state.seed(getDriver());
+        targetPage.openDirect(relativePath);
+    }
+
     @Step("Go to Checkout Step One with item: {item.itemId}")
     protected void goToCheckoutStepOne(ItemModel item) {
+        if (isSeedMode()) {
+            seedAndOpen(givenState().withCartItems(item.getItemId()),
+                    new CheckoutStepOnePage(), "checkout-step-one.html");
+            return;
+        }
+
         InventoryPage inventoryPage = new InventoryPage();
         CartPage cartPage = new CartPage();
 
@@ -27,6 +60,14 @@ public class CheckoutBaseTest extends LoginBaseTest {
 
     @Step("Go to Checkout Step Two with item: {item.itemId} and checkout data")
     protected void goToCheckoutStepTwo(CheckoutModel checkoutData, ItemModel item) {
+        if (isSeedMode()) {
+            seedAndOpen(givenState()
+                            .withCartItems(item.getItemId())
+                            .withCheckoutInfo(checkoutData.getFirstName(), checkoutData.getLastName(),
+                                    checkoutData.getPostalCode()),
+                    new CheckoutStepTwoPage(), "checkout-step-two.html");
+            return;
+        }
 
         // 1) Navigate to Checkout Step One
         goToCheckoutStepOne(item);
@@ -44,11 +85,11 @@ public class CheckoutBaseTest extends LoginBaseTest {
 
     @Step("Go to Checkout Complete page with item: {item.itemId} and checkout data")
     protected void goToCheckoutComplete(CheckoutModel checkoutData, ItemModel item) {
-
-        // 1) Navigate to Checkout Step Two
+        // 1) Navigate to Checkout Step Two (seeded in seed mode)
         goToCheckoutStepTwo(checkoutData, item);
 
-        // 2) Finish checkout at Step Two
+        // 2) Finish checkout at Step Two - always a real Finish, even in seed mode, so the
+        //    complete-page tests verify an order that was actually placed
         CheckoutStepTwoPage stepTwo = new CheckoutStepTwoPage();
         stepTwo.clickFinish();
         // Now the user should be on Checkout Complete page
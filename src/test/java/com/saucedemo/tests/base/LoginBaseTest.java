@@ -1,13 +1,20 @@
 package com.saucedemo.tests.base;
 
+import com.saucedemo.pages.InventoryPage;
 import com.saucedemo.pages.LoginPage;
 import com.saucedemo.tests.utils.models.UserModel;
 import com.saucedemo.utilities.config.JsonUtils;
+import com.saucedemo.utilities.selenium.session.StorageState;
+import com.saucedemo.utilities.selenium.session.StorageStateStore;
 import io.qameta.allure.*;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 
 @Epic("SauceDemo Web Application")
@@ -17,6 +24,9 @@ public abstract class LoginBaseTest extends BaseTest {
 
     private static final String LOGIN_VALID_JSON_PATH = "/testData/login_valid.json";
 
+    // Tests in these groups always exercise the real login form
+    private static final Set<String> AUTHENTICATION_GROUPS = Set.of("login", "auth", "authentication");
+
     protected UserModel standardUser;
 
     // -------------------- Precondition: load standard user from JSON --------------------
@@ -38,11 +48,47 @@ public abstract class LoginBaseTest extends BaseTest {
 
     @BeforeMethod(alwaysRun = true)
     @Step("Login as standard user before test and navigate to Inventory page")
-    public void loginBeforeEachInventoryTest() {
+    public void loginBeforeEachInventoryTest(Method method) {
         // BaseTest.setUp() has already run here (driver + baseUrl ready)
 
+        if (StorageStateStore.isEnabled() && !isAuthenticationTest(method)) {
+            loginWithStorageState(standardUser);
+        } else {
+            LoginPage loginPage = new LoginPage();
+            loginPage.loginAs(standardUser.getUsername(), standardUser.getPassword());
+        }
+    }
+
+    /**
+     * Logs in by injecting the user's saved cookies/localStorage and opening Inventory directly.
+     * The first time a user is needed (or when the saved state is stale) the login form is used
+     * once and the resulting state is captured for every later test.
+     */
+    @Step("Login as {user.username} using saved storage state")
+    protected void loginWithStorageState(UserModel user) {
+        StorageState state = StorageStateStore.load(user.getUsername());
         LoginPage loginPage = new LoginPage();
-        loginPage.loginAs(standardUser.getUsername(), standardUser.getPassword());
 
+        if (state != null) {
+            StorageStateStore.inject(getDriver(), state);
+            new InventoryPage().openDirect("inventory.html");
+            if (loginPage.waitUntilOnInventoryPage()) {
+                return;
+            }
+            // Saved state was rejected by the app: fall back to the form and re-capture
+            StorageStateStore.invalidate(user.getUsername());
+            getDriver().manage().deleteAllCookies();
+            loginPage.openDirect("");
+        }
+
+        loginPage.loginAs(user.getUsername(), user.getPassword());
+        if (loginPage.waitUntilOnInventoryPage()) {
+            StorageStateStore.save(StorageStateStore.capture(getDriver(), user.getUsername()));
+        }
+    }
+
+    private static boolean isAuthenticationTest(Method method) {
+        Test test = method.getAnnotation(Test.class);
+        return test != null && Arrays.stream(test.groups()).anyMatch(AUTHENTICATION_GROUPS::contains);
     }
 }
@@ -0,0 +1,85 @@
+package com.saucedemo.tests.benchmark;
+
+import com.saucedemo.pages.InventoryPage;
+import com.saucedemo.tests.base.LoginBaseTest;
+import com.saucedemo.utilities.reporting.AllureUtils;
+import com.saucedemo.utilities.selenium.driver.DriverManager;
+import com.saucedemo.utilities.selenium.helperClasses.RoundTripCounter;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Epic("SauceDemo Web Application")
+@Feature("Test Infrastructure – Performance Benchmarks")
+@Owner("Mohamed Kamal")
+public class InventoryReadBenchmarkTest extends LoginBaseTest {
+
+    private final By itemNameLocator = By.className("inventory_item_name");
+    private final By itemPriceLocator = By.className("inventory_item_price");
+
+    /**
+     * TC_BENCH_001 - Reading names and prices through the snapshot API must need fewer
+     * WebDriver round trips than the per-element findElements + getText approach, with the same result.
+     */
+    @Test(
+            description = "Inventory snapshot reads names and prices in fewer round trips than per-element getText",
+            groups = {"benchmark", "inventory"}
+    )
+    @Story("Single-round-trip Inventory reads")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Counts WebDriver commands for reading all item names and prices per element (previous approach) " +
+            "and through InventoryPage.getInventorySnapshot(), attaches both counts and compares the results.")
+    public void TC_BENCH_001_snapshotReadsUseFewerRoundTrips() {
+
+        WebDriver originalDriver = getDriver();
+        RoundTripCounter counter = new RoundTripCounter();
+        WebDriver countedDriver = counter.decorate(originalDriver);
+        DriverManager.setDriver(countedDriver);
+        try {
+            InventoryPage inventoryPage = new InventoryPage();
+            // Make sure the grid is rendered before either measurement starts
+            inventoryPage.getInventorySnapshot();
+
+            counter.reset();
+            List<String> perElementNames = readTexts(countedDriver, itemNameLocator);
+            List<Double> perElementPrices = readTexts(countedDriver, itemPriceLocator).stream()
+                    .map(price -> Double.parseDouble(price.replace("$", "").trim()))
+                    .toList();
+            long perElementTrips = counter.getCount();
+
+            counter.reset();
+            List<String> snapshotNames = inventoryPage.getAllItemNames();
+            List<Double> snapshotPrices = inventoryPage.getAllItemPrices();
+            long snapshotTrips = counter.getCount();
+
+            AllureUtils.attachText("Inventory Read Round Trips", String.format(
+                    "Items: %d%nPer-element names + prices: %d round trips%nSnapshot names + prices: %d round trips",
+                    snapshotNames.size(), perElementTrips, snapshotTrips));
+
+            Assert.assertEquals(snapshotNames, perElementNames, "Snapshot names should match per-element reads.");
+            Assert.assertEquals(snapshotPrices, perElementPrices, "Snapshot prices should match per-element reads.");
+            Assert.assertTrue(snapshotTrips < perElementTrips,
+                    "Snapshot reads should need fewer round trips (" + snapshotTrips + ") than per-element reads (" +
+                            perElementTrips + ").");
+        } finally {
+            DriverManager.setDriver(originalDriver);
+        }
+    }
+
+    /**
+     * The previous way of reading a list: one findElements, then one getText call per element.
+     */
+    private List<String> readTexts(WebDriver driver, By locator) {
+        List<String> texts = new ArrayList<>();
+        for (WebElement element : driver.findElements(locator)) {
+            texts.add(element.getText().trim());
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,78 @@
+package com.saucedemo.tests.concurrency;
+
+import com.saucedemo.pageComponents.CartItemComponent;
+import com.saucedemo.pages.LoginPage;
+import com.saucedemo.tests.base.BaseTest;
+import com.saucedemo.utilities.selenium.driver.DriverManager;
+import io.qameta.allure.*;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Epic("SauceDemo Web Application")
+@Feature("Test Infrastructure – Parallel Execution")
+@Owner("Mohamed Kamal")
+public class DriverIsolationStressTest extends BaseTest {
+
+    /**
+     * TC_CONC_001 - Page objects created on many threads at once must only ever talk to their own thread's browser.
+     * Each invocation stamps a unique token into its own browser, then interleaves with the other threads
+     * (page construction + random pauses) before reading the token back through the page objects.
+     */
+    @Test(
+            description = "Page objects stay bound to their own thread's driver under parallel load",
+            invocationCount = 24,
+            threadPoolSize = 8,
+            groups = {"concurrency"}
+    )
+    @Story("No cross-thread WebDriver bleed in page objects")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Runs 24 invocations on 8 threads. Every invocation writes a unique token into its own browser " +
+            "and verifies that page objects constructed concurrently on other threads never read or write it.")
+    public void TC_CONC_001_pageObjectsAreBoundToTheirThreadDriver() throws InterruptedException {
+
+        WebDriver ownDriver = DriverManager.getDriver();
+        String token = "conc-" + Thread.currentThread().getId() + "-" + UUID.randomUUID();
+
+        // 1) Build the page object first, so any later construction on another thread could hijack it
+        LoginPage loginPage = new LoginPage();
+        ((JavascriptExecutor) ownDriver).executeScript("document.title = arguments[0];", token);
+        pause();
+
+        // 2) Write through the page object, let other threads run, then read back
+        loginPage.enterUsername(token);
+        pause();
+        new LoginPage();
+        pause();
+
+        Assert.assertEquals(
+                loginPage.getTitle(),
+                token,
+                "Page object read the title of another thread's browser."
+        );
+        Assert.assertEquals(
+                ((JavascriptExecutor) ownDriver).executeScript("return document.getElementById('user-name').value;"),
+                token,
+                "Username typed through the page object did not land in this thread's browser."
+        );
+
+        // 3) Static component helpers must also resolve this thread's driver
+        Assert.assertFalse(
+                CartItemComponent.isItemPresentByName(token),
+                "Login page has no cart items, so no item should be found on this thread's browser."
+        );
+        Assert.assertSame(
+                DriverManager.getDriver(),
+                ownDriver,
+                "DriverManager returned a different driver on the same thread."
+        );
+    }
+
+    private static void pause() throws InterruptedException {
+        Thread.sleep(ThreadLocalRandom.current().nextLong(20, 150));
+    }
+}
@@ -5,7 +5,10 @@ import com.saucedemo.pages.ProductDetailsPage;
 import com.saucedemo.tests.base.LoginBaseTest;
 import com.saucedemo.tests.utils.dataProviders.InventoryDataProvider;
 import com.saucedemo.tests.utils.models.ItemModel;
+import com.saucedemo.utilities.selenium.helperClasses.AtomicActions;
+import com.saucedemo.utilities.selenium.helperClasses.AtomicActions.ActionResult;
 import io.qameta.allure.*;
+import org.openqa.selenium.By;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -309,4 +312,73 @@ public class InventoryTests extends LoginBaseTest {
                         expectedUrlStart + ", actual: " + actualUrl
         );
     }
+
+    /**
+     * TC_INV_012 - Add and remove an item in both action modes and verify the reported outcome.
+     */
+    @Test(
+            description = "Add and remove an item with action.mode native and atomic and verify the action result",
+            dataProvider = "singleInventoryItemPerActionMode",
+            dataProviderClass = InventoryDataProvider.class,
+            groups = {"regression", "inventory", "cart"}
+    )
+    @Story("Add items to cart from Inventory")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Adds and removes an item with the given action.mode and asserts the action result and the cart badge.")
+    public void TC_INV_012_addAndRemoveItemPerActionMode(ItemModel item, String actionMode) {
+
+        InventoryPage inventoryPage = new InventoryPage();
+        int initialCount = inventoryPage.getCartBadgeCount();
+
+        ActionResult added = AtomicActions.withMode(actionMode, () -> inventoryPage.addItemToCartById(item.getItemId()));
+        Assert.assertTrue(added.performed() && added.found() && added.clickable() && !added.obscured(),
+                "Add to cart should be performed in " + actionMode + " mode: " + added);
+        Assert.assertEquals(inventoryPage.getCartBadgeCount(), initialCount + 1,
+                "Cart badge count should increase by 1 after adding an item in " + actionMode + " mode.");
+        if (added.state() != null) {
+            Assert.assertEquals(added.state(), String.valueOf(initialCount + 1),
+                    "Badge read with the click should match the new count in " + actionMode + " mode.");
+        }
+
+        ActionResult removed = AtomicActions.withMode(actionMode,
+                () -> inventoryPage.removeItemFromCartById(item.getItemId()));
+        Assert.assertTrue(removed.performed(), "Remove should be performed in " + actionMode + " mode: " + removed);
+        Assert.assertEquals(inventoryPage.getCartBadgeCount(), initialCount,
+                "Cart badge count should return to its initial value in " + actionMode + " mode.");
+
+        ActionResult missing = AtomicActions.withMode(actionMode,
+                () -> AtomicActions.clickAndRead(By.id("no-such-button"), By.className("shopping_cart_badge")));
+        Assert.assertFalse(missing.performed() || missing.found(),
+                "A missing button should be reported, not thrown, in " + actionMode + " mode: " + missing);
+    }
+
+    /**
+     * TC_INV_013 - Navigate to Product Details by item id and verify the exact product opens.
+     */
+    @Test(
+            description = "Open product details by item id on Inventory",
+            dataProvider = "singleInventoryItem",
+            dataProviderClass = InventoryDataProvider.class,
+            groups = {"regression", "inventory", "navigation"}
+    )
+    @Story("Navigate to product details from Inventory")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Opening an item by its id on the Inventory page should navigate to that product's details page.")
+    public void TC_INV_013_openDetailsById(ItemModel item) {
+
+        InventoryPage inventoryPage = new InventoryPage();
+        ProductDetailsPage productDetailsPage = new ProductDetailsPage();
+
+        inventoryPage.openItemDetailsById(item.getItemId());
+
+        Assert.assertTrue(
+                productDetailsPage.isOnProductDetailsPage(),
+                "After opening the item by id, user should be on Product Details page."
+        );
+        Assert.assertEquals(
+                productDetailsPage.getProductName(),
+                item.getItemName(),
+                "Product Details page should show the item that was opened by id."
+        );
+    }
 }
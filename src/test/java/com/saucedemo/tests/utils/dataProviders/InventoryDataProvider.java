@@ -37,4 +37,11 @@ public class InventoryDataProvider {
         }
         return new Object[][]{{items.get(0)}};
     }
+
+
+    @DataProvider(name = "singleInventoryItemPerActionMode")
+    public static Object[][] singleInventoryItemPerActionMode() {
+        ItemModel item = (ItemModel) singleInventoryItem()[0][0];
+        return new Object[][]{{item, "native"}, {item, "atomic"}};
+    }
 }
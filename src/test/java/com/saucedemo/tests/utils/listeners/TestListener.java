@@ -1,6 +1,7 @@
 package com.saucedemo.tests.utils.listeners;
 
 import com.saucedemo.utilities.reporting.AllureUtils;
+import com.saucedemo.utilities.selenium.driver.DriverManager;
 import org.openqa.selenium.*;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -12,8 +13,16 @@ public class TestListener implements ITestListener {
 
     @Override
     public void onTestFailure(ITestResult result) {
-        // 1) Screenshot
-        AllureUtils.attachScreenshot("Failure Screenshot");
+        // 1) Screenshot - only if the browser still answers; a crashed one would just time out
+        if (!DriverManager.hasDriver()) {
+            AllureUtils.attachText("No Browser Session", "No driver was started for this test " +
+                    "(driver or setup configuration failed); no screenshot taken.");
+        } else if (DriverManager.isCurrentDriverHealthy()) {
+            AllureUtils.attachScreenshot("Failure Screenshot");
+        } else {
+            AllureUtils.attachText("Browser Crash", "The browser session did not answer a health check; " +
+                    "no screenshot taken. The driver will be replaced for the next test.");
+        }
 
         // 2) Full stacktrace as text
         AllureUtils.attachText("Failure Reason", getStackTrace(result));